@@ -0,0 +1,52 @@
+package com.appdev.academeet.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // Bounded pool for domain event listeners (see NotificationEventListener)
+    @Bean(name = "eventExecutor")
+    public ThreadPoolTaskExecutor eventExecutor(
+            @Value("${academeet.events.pool-size:4}") int poolSize,
+            @Value("${academeet.events.queue-capacity:1000}") int queueCapacity) {
+        return boundedExecutor("event-", poolSize, queueCapacity);
+    }
+
+    // Bounded pool for post-commit notification fan-out
+    @Bean(name = "notificationExecutor")
+    public ThreadPoolTaskExecutor notificationExecutor(
+            @Value("${academeet.notifications.pool-size:4}") int poolSize,
+            @Value("${academeet.notifications.queue-capacity:1000}") int queueCapacity) {
+        return boundedExecutor("notify-", poolSize, queueCapacity);
+    }
+
+    // Bounded pool for image thumbnailing, kept off request and event threads
+    @Bean(name = "imageExecutor")
+    public ThreadPoolTaskExecutor imageExecutor(
+            @Value("${academeet.images.pool-size:2}") int poolSize,
+            @Value("${academeet.images.queue-capacity:500}") int queueCapacity) {
+        return boundedExecutor("image-", poolSize, queueCapacity);
+    }
+
+    // When the queue is full the submitting thread runs the task itself instead of dropping it
+    private ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,16 @@
+package com.appdev.academeet.config;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ClockConfig {
+
+    // Injected wherever time drives behavior, so tests can substitute a fixed clock
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,97 @@
+package com.appdev.academeet.config;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.appdev.academeet.model.NotificationType;
+
+/**
+ * Retention settings, e.g.
+ * academeet.notifications.retention.ttl-days.COMMENT_ON_SESSION=14
+ */
+@Component
+@ConfigurationProperties(prefix = "academeet.notifications.retention")
+public class NotificationRetentionProperties {
+
+    // Days a read notification (or a fired reminder) is kept, per type
+    private Map<NotificationType, Integer> ttlDays = new EnumMap<>(NotificationType.class);
+
+    // Fallback for types without an entry in ttlDays
+    private int defaultTtlDays = 90;
+
+    // Hard cap applied regardless of read state
+    private int maxAgeDays = 365;
+
+    private int chunkSize = 1000;
+
+    // Pause between delete chunks so other writers get the table
+    private long chunkPauseMs = 50;
+
+    // Types whose unread duplicates per session are merged into one notification
+    private List<NotificationType> collapseTypes = new ArrayList<>(List.of(NotificationType.COMMENT_ON_SESSION));
+
+    public NotificationRetentionProperties() {
+        ttlDays.put(NotificationType.JOIN_CONFIRMATION, 30);
+        ttlDays.put(NotificationType.PARTICIPANT_JOINED, 30);
+        ttlDays.put(NotificationType.COMMENT_ON_SESSION, 30);
+        ttlDays.put(NotificationType.REMINDER_DAY_BEFORE, 7);
+        ttlDays.put(NotificationType.REMINDER_HOUR_BEFORE, 7);
+    }
+
+    public int ttlDaysFor(NotificationType type) {
+        return ttlDays.getOrDefault(type, defaultTtlDays);
+    }
+
+    public Map<NotificationType, Integer> getTtlDays() {
+        return ttlDays;
+    }
+
+    public void setTtlDays(Map<NotificationType, Integer> ttlDays) {
+        this.ttlDays = ttlDays;
+    }
+
+    public int getDefaultTtlDays() {
+        return defaultTtlDays;
+    }
+
+    public void setDefaultTtlDays(int defaultTtlDays) {
+        this.defaultTtlDays = defaultTtlDays;
+    }
+
+    public int getMaxAgeDays() {
+        return maxAgeDays;
+    }
+
+    public void setMaxAgeDays(int maxAgeDays) {
+        this.maxAgeDays = maxAgeDays;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public long getChunkPauseMs() {
+        return chunkPauseMs;
+    }
+
+    public void setChunkPauseMs(long chunkPauseMs) {
+        this.chunkPauseMs = chunkPauseMs;
+    }
+
+    public List<NotificationType> getCollapseTypes() {
+        return collapseTypes;
+    }
+
+    public void setCollapseTypes(List<NotificationType> collapseTypes) {
+        this.collapseTypes = collapseTypes;
+    }
+}
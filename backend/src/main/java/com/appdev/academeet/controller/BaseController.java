@@ -6,6 +6,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import com.appdev.academeet.exception.UnauthorizedException;
 import com.appdev.academeet.model.User;
+import com.appdev.academeet.security.AuthenticatedUser;
 import com.appdev.academeet.service.UserService;
 
 public abstract class BaseController {
@@ -13,15 +14,26 @@ public abstract class BaseController {
     @Autowired
     protected UserService userService;
 
-    protected User getAuthenticatedUser() {
+    // Identity from the verified token; no database access
+    protected AuthenticatedUser getAuthenticatedPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         
-        if (authentication == null || !authentication.isAuthenticated()) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof AuthenticatedUser principal)) {
             throw new UnauthorizedException("User is not authenticated");
         }
         
-        String email = authentication.getName();
-        return userService.findByEmail(email)
+        return principal;
+    }
+
+    protected Long getAuthenticatedUserId() {
+        return getAuthenticatedPrincipal().getId();
+    }
+
+    // Loads the full entity; only for endpoints that need more than the id
+    protected User getAuthenticatedUser() {
+        Long userId = getAuthenticatedUserId();
+        return userService.findById(userId)
                 .orElseThrow(() -> new UnauthorizedException("Authenticated user not found"));
     }
 }
@@ -3,36 +3,43 @@ package com.appdev.academeet.controller;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.appdev.academeet.dto.CommentDTO;
 import com.appdev.academeet.dto.CommentRequest;
+import com.appdev.academeet.dto.CursorPage;
 import com.appdev.academeet.dto.ReplyDTO;
-import com.appdev.academeet.model.User;
 import com.appdev.academeet.service.CommentService;
+import com.appdev.academeet.service.CommentStreamService;
 
 @RestController
 @RequestMapping("/api")
 public class CommentController extends BaseController {
 
     private final CommentService commentService;
+    private final CommentStreamService commentStreamService;
 
     @Autowired
-    public CommentController(CommentService commentService) {
+    public CommentController(CommentService commentService, CommentStreamService commentStreamService) {
         this.commentService = commentService;
+        this.commentStreamService = commentStreamService;
     }
 
     @PostMapping("/sessions/{sessionId}/comments")
     public ResponseEntity<?> createComment(@PathVariable Long sessionId, @RequestBody CommentRequest request) {
-        User user = getAuthenticatedUser();
-        CommentDTO dto = commentService.createCommentAndGetDTO(user.getId(), sessionId, request.getContent());
+        Long userId = getAuthenticatedUserId();
+        CommentDTO dto = commentService.createCommentAndGetDTO(userId, sessionId, request.getContent());
         return ResponseEntity.ok(dto);
     }
 
@@ -41,8 +48,8 @@ public class CommentController extends BaseController {
             @PathVariable Long sessionId,
             @PathVariable Long commentId,
             @RequestBody CommentRequest request) {
-        User user = getAuthenticatedUser();
-        ReplyDTO dto = commentService.createReplyAndGetDTO(user.getId(), sessionId, commentId, request.getContent());
+        Long userId = getAuthenticatedUserId();
+        ReplyDTO dto = commentService.createReplyAndGetDTO(userId, sessionId, commentId, request.getContent());
         return ResponseEntity.ok(dto);
     }
 
@@ -52,10 +59,28 @@ public class CommentController extends BaseController {
         return ResponseEntity.ok(comments);
     }
 
+    @GetMapping("/sessions/{sessionId}/comments/page")
+    public ResponseEntity<CursorPage<CommentDTO>> getSessionCommentsPage(
+            @PathVariable Long sessionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Integer replies) {
+        return ResponseEntity.ok(commentService.getThreadPage(sessionId, cursor, size, replies));
+    }
+
+    // Push channel for new and deleted comments; resumes from Last-Event-ID (or ?resume=)
+    @GetMapping(value = "/sessions/{sessionId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSessionComments(
+            @PathVariable Long sessionId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(value = "resume", required = false) String resume) {
+        return commentStreamService.subscribe(sessionId, lastEventId != null ? lastEventId : resume);
+    }
+
     @DeleteMapping("/sessions/{sessionId}/comments/{commentId}")
     public ResponseEntity<?> deleteComment(@PathVariable Long sessionId, @PathVariable Long commentId) {
-        User user = getAuthenticatedUser();
-        commentService.deleteComment(commentId, user.getId());
+        Long userId = getAuthenticatedUserId();
+        commentService.deleteComment(commentId, userId);
         return ResponseEntity.noContent().build();
     }
 
@@ -64,4 +89,12 @@ public class CommentController extends BaseController {
         List<ReplyDTO> replies = commentService.getReplies(commentId);
         return ResponseEntity.ok(replies);
     }
+
+    @GetMapping("/comments/{commentId}/replies/page")
+    public ResponseEntity<CursorPage<ReplyDTO>> getRepliesPage(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(commentService.getRepliesPage(commentId, cursor, size));
+    }
 }
\ No newline at end of file
@@ -3,81 +3,108 @@ package com.appdev.academeet.controller;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.appdev.academeet.dto.CursorPage;
 import com.appdev.academeet.dto.NotificationDTO;
-import com.appdev.academeet.model.User;
 import com.appdev.academeet.service.NotificationService;
+import com.appdev.academeet.service.NotificationStreamService;
 
 @RestController
 @RequestMapping("/api/notifications")
 public class NotificationController extends BaseController {
     
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
     
-    public NotificationController(NotificationService notificationService) {
+    public NotificationController(NotificationService notificationService,
+                                  NotificationStreamService notificationStreamService) {
         this.notificationService = notificationService;
+        this.notificationStreamService = notificationStreamService;
     }
    
+    // Push channel for new notifications and unread-count changes; replaces polling
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(value = "resume", required = false) Long resume) {
+        Long userId = getAuthenticatedUserId();
+        return notificationStreamService.subscribe(userId, lastEventId != null ? lastEventId : resume);
+    }
+    
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPage<NotificationDTO>> getNotificationFeed(
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long userId = getAuthenticatedUserId();
+        return ResponseEntity.ok(notificationService.getFeed(userId, unreadOnly, cursor, size));
+    }
+    
     @GetMapping("/all")
     public ResponseEntity<List<NotificationDTO>> getAllNotifications() {
-        User user = getAuthenticatedUser();
-        List<NotificationDTO> notifications = notificationService.getAllNotifications(user.getId());
+        Long userId = getAuthenticatedUserId();
+        List<NotificationDTO> notifications = notificationService.getAllNotifications(userId);
         return ResponseEntity.ok(notifications);
     }
     
     @GetMapping("/unread")
     public ResponseEntity<List<NotificationDTO>> getUnreadNotifications() {
-        User user = getAuthenticatedUser();
-        List<NotificationDTO> notifications = notificationService.getUnreadNotifications(user.getId());
+        Long userId = getAuthenticatedUserId();
+        List<NotificationDTO> notifications = notificationService.getUnreadNotifications(userId);
         return ResponseEntity.ok(notifications);
     }
 
     @GetMapping("/unread/count")
     public ResponseEntity<Map<String, Long>> getUnreadCount() {
-        User user = getAuthenticatedUser();
-        Long count = notificationService.getUnreadCount(user.getId());
+        Long userId = getAuthenticatedUserId();
+        Long count = notificationService.getUnreadCount(userId);
         return ResponseEntity.ok(Map.of("count", count));
     }
     
     @PatchMapping("/{id}/read")
     public ResponseEntity<Map<String, String>> markAsRead(@PathVariable Long id) {
-        User user = getAuthenticatedUser();
-        notificationService.markAsRead(id, user.getId());
+        Long userId = getAuthenticatedUserId();
+        notificationService.markAsRead(id, userId);
         return ResponseEntity.ok(Map.of("message", "Notification marked as read"));
     }
  
     @PatchMapping("/{id}/unread")
     public ResponseEntity<Map<String, String>> markAsUnread(@PathVariable Long id) {
-        User user = getAuthenticatedUser();
-        notificationService.markAsUnread(id, user.getId());
+        Long userId = getAuthenticatedUserId();
+        notificationService.markAsUnread(id, userId);
         return ResponseEntity.ok(Map.of("message", "Notification marked as unread"));
     }
 
+    // upTo: newest notification id the client has shown; newer rows stay unread
     @PostMapping("/mark-all-read")
-    public ResponseEntity<Map<String, String>> markAllAsRead() {
-        User user = getAuthenticatedUser();
-        notificationService.markAllAsRead(user.getId());
+    public ResponseEntity<Map<String, String>> markAllAsRead(@RequestParam(value = "upTo", required = false) Long upTo) {
+        Long userId = getAuthenticatedUserId();
+        notificationService.markAllAsRead(userId, upTo);
         return ResponseEntity.ok(Map.of("message", "All notifications marked as read"));
     }
     
     @GetMapping("/reminders/active")
     public ResponseEntity<List<NotificationDTO>> getActiveReminders() {
-        User user = getAuthenticatedUser();
-        List<NotificationDTO> reminders = notificationService.getActiveReminders(user.getId());
+        Long userId = getAuthenticatedUserId();
+        List<NotificationDTO> reminders = notificationService.getActiveReminders(userId);
         return ResponseEntity.ok(reminders);
     }
     
     @GetMapping("/reminders/unread/count")
     public ResponseEntity<Map<String, Long>> getUnreadReminderCount() {
-        User user = getAuthenticatedUser();
-        Long count = notificationService.getUnreadReminderCount(user.getId());
+        Long userId = getAuthenticatedUserId();
+        Long count = notificationService.getUnreadReminderCount(userId);
         return ResponseEntity.ok(Map.of("count", count));
     }
 }
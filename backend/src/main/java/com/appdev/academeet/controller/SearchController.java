@@ -10,8 +10,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.appdev.academeet.dto.CursorPage;
 import com.appdev.academeet.dto.SessionDTO;
-import com.appdev.academeet.model.User;
 import com.appdev.academeet.service.SearchService;
 
 @RestController
@@ -43,6 +43,20 @@ public class SearchController extends BaseController {
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping("/users/page")
+    public ResponseEntity<CursorPage<Map<String, Object>>> searchUsersPage(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String program,
+            @RequestParam(required = false) Integer yearLevel,
+            @RequestParam(defaultValue = "relevance") String sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        Long currentUserId = getCurrentUserIdOrNull();
+        CursorPage<Map<String, Object>> page = searchService.searchUsersPage(q, program, yearLevel, sortBy, cursor, size, currentUserId);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/sessions")
     public ResponseEntity<List<SessionDTO>> searchSessions(
             @RequestParam(required = false) String q,
@@ -54,11 +68,25 @@ public class SearchController extends BaseController {
         List<SessionDTO> sessions = searchService.searchSessions(q, date, timeOfDay, privacy, sortBy);
         return ResponseEntity.ok(sessions);
     }
+
+    @GetMapping("/sessions/page")
+    public ResponseEntity<CursorPage<SessionDTO>> searchSessionsPage(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String date,
+            @RequestParam(required = false) String timeOfDay,
+            @RequestParam(required = false) String privacy,
+            @RequestParam(defaultValue = "relevance") String sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        
+        CursorPage<SessionDTO> page = searchService.searchSessionsPage(q, date, timeOfDay, privacy, sortBy, cursor, size);
+        return ResponseEntity.ok(page);
+    }
     
     private Long getCurrentUserIdOrNull() {
         try {
-            User currentUser = getAuthenticatedUser();
-            return currentUser.getId();
+            Long currentUserId = getAuthenticatedUserId();
+            return currentUserId;
         } catch (Exception e) {
             return null;
         }
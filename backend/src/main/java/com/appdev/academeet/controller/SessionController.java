@@ -1,8 +1,10 @@
 package com.appdev.academeet.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,12 +14,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.appdev.academeet.dto.CreateSessionRequest;
+import com.appdev.academeet.dto.CursorPage;
 import com.appdev.academeet.dto.JoinSessionRequest;
 import com.appdev.academeet.dto.SessionDTO;
 import com.appdev.academeet.dto.UpdateSessionRequest;
@@ -41,43 +43,60 @@ public class SessionController extends BaseController {
 
     @PostMapping
     public ResponseEntity<SessionDTO> createSession(@Valid @RequestBody CreateSessionRequest request) {
-        User host = getAuthenticatedUser();
-        Session savedSession = sessionService.createSessionFromDTO(request, host.getId());
+        Long hostId = getAuthenticatedUserId();
+        Session savedSession = sessionService.createSessionFromDTO(request, hostId);
         return ResponseEntity.status(HttpStatus.CREATED).body(new SessionDTO(savedSession));
     }
 
     @GetMapping("/user/me")
     public ResponseEntity<List<SessionDTO>> getMySessionsByUser() {
-        User user = getAuthenticatedUser();
-        List<SessionDTO> sessions = sessionService.getSessionsByUserId(user.getId());
+        Long userId = getAuthenticatedUserId();
+        List<SessionDTO> sessions = sessionService.getSessionsByUserId(userId);
         return ResponseEntity.ok(sessions);
     }
 
     @GetMapping("/user/me/history")
     public ResponseEntity<List<SessionDTO>> getMyCompletedSessions() {
-        User user = getAuthenticatedUser();
-        List<SessionDTO> sessions = sessionService.getCompletedSessionsByUserId(user.getId());
+        Long userId = getAuthenticatedUserId();
+        List<SessionDTO> sessions = sessionService.getCompletedSessionsByUserId(userId);
         return ResponseEntity.ok(sessions);
     }
 
     @GetMapping("/user/me/trash")
     public ResponseEntity<List<SessionDTO>> getMyTrashedSessions() {
-        User user = getAuthenticatedUser();
-        List<SessionDTO> sessions = sessionService.getTrashedSessionsByUserId(user.getId());
+        Long userId = getAuthenticatedUserId();
+        List<SessionDTO> sessions = sessionService.getTrashedSessionsByUserId(userId);
         return ResponseEntity.ok(sessions);
     }
 
     @GetMapping("/user/me/joined")
     public ResponseEntity<List<SessionDTO>> getMyJoinedSessions() {
-        User user = getAuthenticatedUser();
-        List<SessionDTO> sessions = sessionService.getJoinedSessionsByUserId(user.getId());
+        Long userId = getAuthenticatedUserId();
+        List<SessionDTO> sessions = sessionService.getJoinedSessionsByUserId(userId);
         return ResponseEntity.ok(sessions);
     }
 
+    @GetMapping("/user/me/page")
+    public ResponseEntity<CursorPage<SessionDTO>> getMySessionsPage(
+            @RequestParam(defaultValue = "hosted") String tab,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long userId = getAuthenticatedUserId();
+        return ResponseEntity.ok(sessionService.getUserSessionsPage(userId, tab, cursor, size));
+    }
+
+    @GetMapping("/user/{userId}/page")
+    public ResponseEntity<CursorPage<SessionDTO>> getUserSessionsPage(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(sessionService.getUserSessionsPage(userId, "hosted", cursor, size));
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<SessionDTO>> getSessionsByUserId(@PathVariable Long userId) {
-        User currentUser = getAuthenticatedUser();
-        List<SessionDTO> sessions = sessionService.getSessionsForUserView(userId, currentUser.getId());
+        Long currentUserId = getAuthenticatedUserId();
+        List<SessionDTO> sessions = sessionService.getSessionsForUserView(userId, currentUserId);
         return ResponseEntity.ok(sessions);
     }
 
@@ -86,6 +105,13 @@ public class SessionController extends BaseController {
         return ResponseEntity.ok(sessionService.getAllSessions());
     }
 
+    @GetMapping("/all-sessions/page")
+    public ResponseEntity<CursorPage<SessionDTO>> getAllSessionsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(sessionService.getAllSessionsPage(cursor, size));
+    }
+
     @GetMapping("/trending")
     public ResponseEntity<List<SessionDTO>> getTrendingSessions() {
         return ResponseEntity.ok(sessionService.getTrendingSessions());
@@ -101,8 +127,25 @@ public class SessionController extends BaseController {
     public ResponseEntity<Map<String, String>> joinSession(@PathVariable Long sessionId, @Valid @RequestBody(required = false) JoinSessionRequest request) {
         User user = getAuthenticatedUser();
         String password = (request != null) ? request.getPassword() : null;
-        sessionService.joinSession(sessionId, user, password);
-        return ResponseEntity.ok(Map.of("message", "Successfully joined session"));
+        SessionService.JoinOutcome outcome = sessionService.joinSession(sessionId, user, password);
+        if (outcome == SessionService.JoinOutcome.WAITLISTED) {
+            return ResponseEntity.accepted().body(Map.of("message", "Session is full, you have been added to the waitlist",
+                    "status", outcome.name()));
+        }
+        return ResponseEntity.ok(Map.of("message", "Successfully joined session", "status", outcome.name()));
+    }
+
+    @GetMapping("/{sessionId}/waitlist")
+    public ResponseEntity<Map<String, Long>> getWaitlistStatus(@PathVariable Long sessionId) {
+        Long userId = getAuthenticatedUserId();
+        return ResponseEntity.ok(sessionService.getWaitlistStatus(sessionId, userId));
+    }
+
+    @DeleteMapping("/{sessionId}/waitlist")
+    public ResponseEntity<Void> leaveWaitlist(@PathVariable Long sessionId) {
+        Long userId = getAuthenticatedUserId();
+        sessionService.leaveWaitlist(sessionId, userId);
+        return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/{id}/cancel-join")
@@ -114,43 +157,43 @@ public class SessionController extends BaseController {
 
     @DeleteMapping("/{sessionId}/leave")
     public ResponseEntity<Void> leaveSession(@PathVariable Long sessionId) {
-        User user = getAuthenticatedUser();
-        sessionService.leaveSession(sessionId, user.getId());
+        Long userId = getAuthenticatedUserId();
+        sessionService.leaveSession(sessionId, userId);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/{id}/is-participant")
     public ResponseEntity<Map<String, Boolean>> isUserParticipant(@PathVariable Long id) {
-        User user = getAuthenticatedUser();
-        boolean isParticipant = sessionService.isUserParticipant(id, user.getId());
+        Long userId = getAuthenticatedUserId();
+        boolean isParticipant = sessionService.isUserParticipant(id, userId);
         return ResponseEntity.ok(Map.of("isParticipant", isParticipant));
     }
 
     @PatchMapping("/{id}/status")
     public ResponseEntity<Map<String, String>> updateSessionStatus(@PathVariable Long id, @Valid @RequestBody UpdateStatusRequest request) {
-        User user = getAuthenticatedUser();
-        sessionService.updateSessionStatus(id, request.getStatus(), user.getId());
+        Long userId = getAuthenticatedUserId();
+        sessionService.updateSessionStatus(id, request.getStatus(), userId);
         return ResponseEntity.ok(Map.of("message", "Session status updated successfully"));
     }
 
     @PutMapping("/{sessionId}/close")
     public ResponseEntity<Map<String, String>> closeSession(@PathVariable Long sessionId) {
-        User user = getAuthenticatedUser();
-        sessionService.closeSession(sessionId, user.getId());
+        Long userId = getAuthenticatedUserId();
+        sessionService.closeSession(sessionId, userId);
         return ResponseEntity.ok(Map.of("message", "Session closed successfully"));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<SessionDTO> updateSession(@PathVariable Long id, @Valid @RequestBody UpdateSessionRequest request) {
-        User authenticatedUser = getAuthenticatedUser();
-        Session updatedSession = sessionService.updateSessionFromDTO(id, request, authenticatedUser.getId());
+        Long authenticatedUserId = getAuthenticatedUserId();
+        Session updatedSession = sessionService.updateSessionFromDTO(id, request, authenticatedUserId);
         return ResponseEntity.ok(new SessionDTO(updatedSession));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<SessionDTO> getSessionById(@PathVariable Long id) {
-        User user = getAuthenticatedUser();
-        SessionDTO session = sessionService.getSessionByIdForUser(id, user.getId());
+        Long userId = getAuthenticatedUserId();
+        SessionDTO session = sessionService.getSessionByIdForUser(id, userId);
         return ResponseEntity.ok(session);
     }
 
@@ -160,6 +203,24 @@ public class SessionController extends BaseController {
         return ResponseEntity.ok(sessions);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<SessionDTO>> getSessionsByStatusPage(
+            @RequestParam(required = false) SessionStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<SessionDTO> page = status != null
+                ? sessionService.getSessionsByStatusPage(status, cursor, size)
+                : sessionService.getAllSessionsPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/calendar")
+    public ResponseEntity<Map<String, List<SessionDTO>>> getCalendar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(sessionService.getCalendar(from, to));
+    }
+
     @GetMapping("/by-date")
     public ResponseEntity<List<SessionDTO>> getSessionsByDate(@RequestParam String year, 
                                                                @RequestParam String month, 
@@ -176,9 +237,9 @@ public class SessionController extends BaseController {
 
     @DeleteMapping("/{sessionId}/participants/{userId}")
     public ResponseEntity<Map<String, String>> removeParticipant(@PathVariable Long sessionId, 
-                                                                  @PathVariable Long userId,
-                                                                  @RequestHeader("Authorization") String token) {
-        Map<String, String> result = sessionService.removeParticipant(sessionId, userId, token);
+                                                                  @PathVariable Long userId) {
+        Long currentUserId = getAuthenticatedUserId();
+        Map<String, String> result = sessionService.removeParticipant(sessionId, userId, currentUserId);
         return ResponseEntity.ok(result);
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,9 +18,10 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.appdev.academeet.dto.NoteDetailsDTO;
 import com.appdev.academeet.dto.NoteUploadResponse;
-import com.appdev.academeet.model.User;
 import com.appdev.academeet.service.SessionNoteService;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 @RestController
 @RequestMapping("/api/notes")
 public class SessionNoteController extends BaseController {
@@ -33,15 +35,15 @@ public class SessionNoteController extends BaseController {
 
     @GetMapping("/me/active")
     public ResponseEntity<List<NoteDetailsDTO>> getMyNotes() {
-        User authenticatedUser = getAuthenticatedUser();
-        List<NoteDetailsDTO> allNotes = sessionNoteService.getAllNotesForUser(authenticatedUser.getId());
+        Long authenticatedUserId = getAuthenticatedUserId();
+        List<NoteDetailsDTO> allNotes = sessionNoteService.getAllNotesForUser(authenticatedUserId);
         return ResponseEntity.ok(allNotes);
     }
 
     @GetMapping("/session/{sessionId}")
     public ResponseEntity<List<NoteDetailsDTO>> getSessionNotes(@PathVariable Long sessionId) {
-        User authenticatedUser = getAuthenticatedUser();
-        List<NoteDetailsDTO> response = sessionNoteService.getNotesForSessionDTO(sessionId, authenticatedUser.getId());
+        Long authenticatedUserId = getAuthenticatedUserId();
+        List<NoteDetailsDTO> response = sessionNoteService.getNotesForSessionDTO(sessionId, authenticatedUserId);
         return ResponseEntity.ok(response);
     }
 
@@ -51,13 +53,13 @@ public class SessionNoteController extends BaseController {
             @RequestParam(value = "title", required = false) String title,
             @RequestParam(value = "sessionId", required = false) Long sessionId) throws IOException {
         
-        User authenticatedUser = getAuthenticatedUser();
+        Long authenticatedUserId = getAuthenticatedUserId();
         String originalFilename = file.getOriginalFilename();
         String effectiveTitle = title != null ? title : originalFilename;
 
         if (sessionId != null) {
             NoteUploadResponse response = sessionNoteService.addNoteAndGetDTO(
-                    sessionId, file, effectiveTitle, authenticatedUser.getId());
+                    sessionId, file, effectiveTitle, authenticatedUserId);
             return ResponseEntity.ok(response);
         } else {
             
@@ -66,20 +68,38 @@ public class SessionNoteController extends BaseController {
         }
     }
 
+    // Raw request body instead of multipart, so the upload streams to disk without a temp-file spill
+    @PostMapping(value = "/upload/stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<NoteUploadResponse> streamFileNote(
+            @RequestParam("filename") String filename,
+            @RequestParam(value = "title", required = false) String title,
+            @RequestParam(value = "sessionId", required = false) Long sessionId,
+            HttpServletRequest request) throws IOException {
+
+        Long authenticatedUserId = getAuthenticatedUserId();
+        String effectiveTitle = title != null ? title : filename;
+
+        if (sessionId != null) {
+            return ResponseEntity.ok(sessionNoteService.addNoteAndGetDTO(
+                    sessionId, request.getInputStream(), filename, effectiveTitle, authenticatedUserId));
+        }
+        return ResponseEntity.ok(sessionNoteService.createUnlinkedDTO(request.getInputStream(), filename, effectiveTitle));
+    }
+
     @PostMapping("/link")
     public ResponseEntity<NoteUploadResponse> linkNoteToSession(
             @RequestParam("filepath") String filepath,
             @RequestParam("sessionId") Long sessionId) {
         
-        User authenticatedUser = getAuthenticatedUser();
-        NoteUploadResponse response = sessionNoteService.createLinkDTO(sessionId, filepath, authenticatedUser.getId());
+        Long authenticatedUserId = getAuthenticatedUserId();
+        NoteUploadResponse response = sessionNoteService.createLinkDTO(sessionId, filepath, authenticatedUserId);
         return ResponseEntity.ok(response);
     }
 
     @DeleteMapping("/{noteId}")
     public ResponseEntity<Map<String, String>> deleteNote(@PathVariable String noteId) {
-        User authenticatedUser = getAuthenticatedUser();
-        sessionNoteService.deleteNote(noteId, authenticatedUser.getId());
+        Long authenticatedUserId = getAuthenticatedUserId();
+        sessionNoteService.deleteNote(noteId, authenticatedUserId);
         return ResponseEntity.ok(Map.of("message", "Note deleted successfully"));
     }
 
@@ -0,0 +1,44 @@
+package com.appdev.academeet.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.appdev.academeet.dto.CursorPage;
+import com.appdev.academeet.dto.SessionDTO;
+import com.appdev.academeet.dto.TagDTO;
+import com.appdev.academeet.service.SessionService;
+import com.appdev.academeet.service.TagService;
+
+@RestController
+@RequestMapping("/api/tags")
+public class TagController extends BaseController {
+
+    private final TagService tagService;
+    private final SessionService sessionService;
+
+    public TagController(TagService tagService, SessionService sessionService) {
+        this.tagService = tagService;
+        this.sessionService = sessionService;
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<TagDTO>> autocomplete(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(tagService.suggest(q, limit));
+    }
+
+    @GetMapping("/{name}/sessions")
+    public ResponseEntity<CursorPage<SessionDTO>> getSessionsByTag(
+            @PathVariable String name,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(sessionService.getSessionsByTagPage(name, cursor, size));
+    }
+}
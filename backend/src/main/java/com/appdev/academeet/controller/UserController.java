@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,7 +13,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.appdev.academeet.dto.UpdateProfileRequest;
 import com.appdev.academeet.dto.UserProfileResponse;
@@ -35,8 +38,8 @@ public class UserController extends BaseController {
     
     @GetMapping("/me")
     public ResponseEntity<UserProfileResponse> getCurrentUserProfile() {
-        User user = getAuthenticatedUser();
-        UserProfileResponse response = userService.getUserProfileDTO(user.getId());
+        Long userId = getAuthenticatedUserId();
+        UserProfileResponse response = userService.getUserProfileDTO(userId);
         return ResponseEntity.ok(response);
     }
     
@@ -53,17 +56,29 @@ public class UserController extends BaseController {
         return ResponseEntity.ok(response);
     }
     
+    @PostMapping(value = "/me/profile-image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<UserProfileResponse> uploadProfileImage(@RequestParam("file") MultipartFile file) {
+        User currentUser = getAuthenticatedUser();
+        return ResponseEntity.ok(userService.updateProfileImage(currentUser, file));
+    }
+    
+    @PostMapping(value = "/me/cover-image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<UserProfileResponse> uploadCoverImage(@RequestParam("file") MultipartFile file) {
+        User currentUser = getAuthenticatedUser();
+        return ResponseEntity.ok(userService.updateCoverImage(currentUser, file));
+    }
+    
     @PostMapping("/{userId}/follow")
     public ResponseEntity<Void> followUser(@PathVariable Long userId) {
-        User currentUser = getAuthenticatedUser();
-        userService.followUser(currentUser.getId(), userId);
+        Long currentUserId = getAuthenticatedUserId();
+        userService.followUser(currentUserId, userId);
         return ResponseEntity.noContent().build();
     }
     
     @DeleteMapping("/{userId}/follow")
     public ResponseEntity<Void> unfollowUser(@PathVariable Long userId) {
-        User currentUser = getAuthenticatedUser();
-        userService.unfollowUser(currentUser.getId(), userId);
+        Long currentUserId = getAuthenticatedUserId();
+        userService.unfollowUser(currentUserId, userId);
         return ResponseEntity.noContent().build();
     }
     
@@ -81,15 +96,15 @@ public class UserController extends BaseController {
     
     @GetMapping("/{userId}/is-following")
     public ResponseEntity<Map<String, Boolean>> isFollowing(@PathVariable Long userId) {
-        User currentUser = getAuthenticatedUser();
-        boolean isFollowing = userService.isFollowing(currentUser.getId(), userId);
+        Long currentUserId = getAuthenticatedUserId();
+        boolean isFollowing = userService.isFollowing(currentUserId, userId);
         return ResponseEntity.ok(Map.of("isFollowing", isFollowing));
     }
 
     @DeleteMapping("/me/followers/{followerId}")
     public ResponseEntity<Map<String, String>> removeFollower(@PathVariable Long followerId) {
-        User currentUser = getAuthenticatedUser();
-        userService.unfollowUser(followerId, currentUser.getId());
+        Long currentUserId = getAuthenticatedUserId();
+        userService.unfollowUser(followerId, currentUserId);
         return ResponseEntity.ok(Map.of("message", "Follower removed successfully"));
     }
 }
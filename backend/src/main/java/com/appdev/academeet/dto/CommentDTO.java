@@ -18,16 +18,18 @@ public class CommentDTO {
     private final LocalDateTime createdAt;
     private final int replyCount;
     private List<ReplyDTO> replies;
+    // Set when only the first replies are included; resumes GET /api/comments/{id}/replies/page
+    private String repliesCursor;
 
     public CommentDTO(Long commentId, Long userId, String userName, String profilePic, String content, 
-                     LocalDateTime createdAt, int replyCount) {
+                     LocalDateTime createdAt, Integer replyCount) {
         this.commentId = commentId;
         this.userId = userId;
         this.userName = userName;
         this.profilePic = profilePic;
         this.content = content;
         this.createdAt = createdAt;
-        this.replyCount = replyCount;
+        this.replyCount = replyCount != null ? replyCount : 0;
         this.replies = new ArrayList<>();
     }
 
@@ -40,8 +42,11 @@ public class CommentDTO {
     public LocalDateTime getCreatedAt() { return createdAt; }
     public int getReplyCount() { return replyCount; }
     public List<ReplyDTO> getReplies() { return replies; }
+    public String getRepliesCursor() { return repliesCursor; }
     
     public void setReplies(List<ReplyDTO> replies) { 
         this.replies = replies == null ? new ArrayList<>() : new ArrayList<>(replies); 
     }
+
+    public void setRepliesCursor(String repliesCursor) { this.repliesCursor = repliesCursor; }
 }
@@ -0,0 +1,34 @@
+package com.appdev.academeet.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CommentStreamEventDTO {
+    private final long seq;
+    private final String type;
+    private final Long sessionId;
+    private final Long commentId;
+    private final Long parentCommentId;
+    private final CommentDTO comment;
+    private final ReplyDTO reply;
+
+    public CommentStreamEventDTO(long seq, String type, Long sessionId, Long commentId, Long parentCommentId,
+                                 CommentDTO comment, ReplyDTO reply) {
+        this.seq = seq;
+        this.type = type;
+        this.sessionId = sessionId;
+        this.commentId = commentId;
+        this.parentCommentId = parentCommentId;
+        this.comment = comment;
+        this.reply = reply;
+    }
+
+    // Getters only
+    public long getSeq() { return seq; }
+    public String getType() { return type; }
+    public Long getSessionId() { return sessionId; }
+    public Long getCommentId() { return commentId; }
+    public Long getParentCommentId() { return parentCommentId; }
+    public CommentDTO getComment() { return comment; }
+    public ReplyDTO getReply() { return reply; }
+}
@@ -0,0 +1,20 @@
+package com.appdev.academeet.dto;
+
+import java.util.List;
+
+public class CursorPage<T> {
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasMore;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    // Getters only
+    public List<T> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean isHasMore() { return hasMore; }
+}
@@ -12,6 +12,7 @@ public class NotificationDTO {
     private final NotificationType type;
     private final String message;
     private final Boolean read;
+    private final Integer count;
     private final LocalDateTime createdAt;
     private final LocalDateTime scheduledTime;
     
@@ -22,10 +23,25 @@ public class NotificationDTO {
         this.type = notification.getType();
         this.message = notification.getMessage();
         this.read = notification.isRead();
+        this.count = notification.getEventCount();
         this.createdAt = notification.getCreatedAt();
         this.scheduledTime = notification.getScheduledTime();
     }
     
+    // Projection constructor used by the feed queries (no entity hydration)
+    public NotificationDTO(Long id, Long sessionId, String sessionTitle, NotificationType type, String message,
+                           Boolean read, Integer count, LocalDateTime createdAt, LocalDateTime scheduledTime) {
+        this.id = id;
+        this.sessionId = sessionId;
+        this.sessionTitle = sessionTitle;
+        this.type = type;
+        this.message = message;
+        this.read = read;
+        this.count = count;
+        this.createdAt = createdAt;
+        this.scheduledTime = scheduledTime;
+    }
+    
     // Getters only 
     public Long getId() { return id; }
     public Long getSessionId() { return sessionId; }
@@ -33,6 +49,7 @@ public class NotificationDTO {
     public NotificationType getType() { return type; }
     public String getMessage() { return message; }
     public Boolean getRead() { return read; }
+    public Integer getCount() { return count; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getScheduledTime() { return scheduledTime; }
     public boolean isScheduled() { return scheduledTime != null; }
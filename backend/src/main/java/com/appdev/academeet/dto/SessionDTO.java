@@ -7,7 +7,6 @@ import java.util.List;
 import com.appdev.academeet.model.Session;
 import com.appdev.academeet.model.SessionPrivacy;
 import com.appdev.academeet.model.SessionStatus;
-import com.appdev.academeet.util.SessionStatusCalculator;
 
 public class SessionDTO {
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("h:mm a");
@@ -46,13 +45,21 @@ public class SessionDTO {
     }
 
     public SessionDTO(Session session) {
+        this(session,
+             session.getHost() != null ? new HostInfo(session.getHost().getId(), session.getHost().getName()) : null,
+             session.getTags(),
+             session.getSessionNotes().stream().map(sessionNote -> sessionNote.getFilepath()).toList());
+    }
+
+    // Built from pre-fetched associations so list endpoints don't lazy-load host, tags and notes per row
+    public SessionDTO(Session session, HostInfo host, List<String> tags, List<String> notes) {
         this.id = session.getId();
         this.title = session.getTitle();
         this.description = session.getDescription();
         
-        if (session.getHost() != null) {
-            this.hostName = session.getHost().getName();
-            this.createdBy = new HostInfo(session.getHost().getId(), session.getHost().getName());
+        if (host != null) {
+            this.hostName = host.getName();
+            this.createdBy = host;
         } else {
             this.hostName = "Unknown Host";
             this.createdBy = null;
@@ -72,15 +79,12 @@ public class SessionDTO {
         this.location = session.getLocation();
         
         this.sessionPrivacy = session.getSessionPrivacy();
-        this.status = SessionStatusCalculator.calculateStatus(session); 
+        this.status = session.getSessionStatus();
         this.maxParticipants = session.getMaxParticipants();
         this.currentParticipants = session.getCurrentParticipants();
         this.createdAt = session.getCreatedAt() != null ? session.getCreatedAt().toString() : null;
-        this.tags = session.getTags();
-        
-        this.notes = session.getSessionNotes().stream()
-                .map(sessionNote -> sessionNote.getFilepath())
-                .toList();
+        this.tags = tags;
+        this.notes = notes;
 
         this.startTime = session.getStartTime() != null ? session.getStartTime().format(TIME_FORMATTER) : null;
         this.endTime = session.getEndTime() != null ? session.getEndTime().format(TIME_FORMATTER) : null;
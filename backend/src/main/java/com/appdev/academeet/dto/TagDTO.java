@@ -0,0 +1,18 @@
+package com.appdev.academeet.dto;
+
+public class TagDTO {
+    private final Long id;
+    private final String name;
+    private final long usageCount;
+
+    public TagDTO(Long id, String name, long usageCount) {
+        this.id = id;
+        this.name = name;
+        this.usageCount = usageCount;
+    }
+
+    // Getters only
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public long getUsageCount() { return usageCount; }
+}
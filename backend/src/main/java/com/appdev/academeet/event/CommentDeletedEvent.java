@@ -0,0 +1,27 @@
+package com.appdev.academeet.event;
+
+// A comment or reply was deleted; deleting a top-level comment also removes its replies
+public class CommentDeletedEvent {
+
+    private final Long commentId;
+    private final Long sessionId;
+    private final Long parentCommentId;
+
+    public CommentDeletedEvent(Long commentId, Long sessionId, Long parentCommentId) {
+        this.commentId = commentId;
+        this.sessionId = sessionId;
+        this.parentCommentId = parentCommentId;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public Long getSessionId() {
+        return sessionId;
+    }
+
+    public Long getParentCommentId() {
+        return parentCommentId;
+    }
+}
@@ -0,0 +1,33 @@
+package com.appdev.academeet.event;
+
+// A top-level comment or a reply was posted; parentCommentId is null for top-level comments
+public class CommentPostedEvent {
+
+    private final Long commentId;
+    private final Long sessionId;
+    private final Long authorId;
+    private final Long parentCommentId;
+
+    public CommentPostedEvent(Long commentId, Long sessionId, Long authorId, Long parentCommentId) {
+        this.commentId = commentId;
+        this.sessionId = sessionId;
+        this.authorId = authorId;
+        this.parentCommentId = parentCommentId;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public Long getSessionId() {
+        return sessionId;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public Long getParentCommentId() {
+        return parentCommentId;
+    }
+}
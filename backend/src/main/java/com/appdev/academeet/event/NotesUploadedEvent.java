@@ -0,0 +1,21 @@
+package com.appdev.academeet.event;
+
+// A note was attached to a session
+public class NotesUploadedEvent {
+
+    private final Long sessionId;
+    private final String noteId;
+
+    public NotesUploadedEvent(Long sessionId, String noteId) {
+        this.sessionId = sessionId;
+        this.noteId = noteId;
+    }
+
+    public Long getSessionId() {
+        return sessionId;
+    }
+
+    public String getNoteId() {
+        return noteId;
+    }
+}
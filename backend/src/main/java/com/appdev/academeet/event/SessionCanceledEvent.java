@@ -0,0 +1,15 @@
+package com.appdev.academeet.event;
+
+// The host closed a session
+public class SessionCanceledEvent {
+
+    private final Long sessionId;
+
+    public SessionCanceledEvent(Long sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public Long getSessionId() {
+        return sessionId;
+    }
+}
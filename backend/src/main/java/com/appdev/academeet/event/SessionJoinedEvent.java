@@ -0,0 +1,31 @@
+package com.appdev.academeet.event;
+
+// A user joined a session, either directly or by promotion from the waitlist
+public class SessionJoinedEvent {
+
+    private final Long sessionId;
+    private final Long userId;
+    private final boolean fromWaitlist;
+
+    public SessionJoinedEvent(Long sessionId, Long userId) {
+        this(sessionId, userId, false);
+    }
+
+    public SessionJoinedEvent(Long sessionId, Long userId, boolean fromWaitlist) {
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.fromWaitlist = fromWaitlist;
+    }
+
+    public Long getSessionId() {
+        return sessionId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public boolean isFromWaitlist() {
+        return fromWaitlist;
+    }
+}
@@ -0,0 +1,21 @@
+package com.appdev.academeet.event;
+
+// The host edited a session's details; startTimeChanged means reminders must be rescheduled
+public class SessionUpdatedEvent {
+
+    private final Long sessionId;
+    private final boolean startTimeChanged;
+
+    public SessionUpdatedEvent(Long sessionId, boolean startTimeChanged) {
+        this.sessionId = sessionId;
+        this.startTimeChanged = startTimeChanged;
+    }
+
+    public Long getSessionId() {
+        return sessionId;
+    }
+
+    public boolean isStartTimeChanged() {
+        return startTimeChanged;
+    }
+}
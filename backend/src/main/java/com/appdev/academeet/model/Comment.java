@@ -11,6 +11,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -18,7 +19,10 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "session_comment")
+@Table(name = "session_comment", indexes = {
+    @Index(name = "idx_comment_thread", columnList = "session_id, parent_comment_id, created_at, comment_id"),
+    @Index(name = "idx_comment_replies", columnList = "parent_comment_id, created_at, comment_id")
+})
 public class Comment {
 
     @Id
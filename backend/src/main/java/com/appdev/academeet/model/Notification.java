@@ -15,12 +15,17 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 @Entity
 @Table(name = "notifications", indexes = {
     @Index(name = "idx_notification_user_created", columnList = "user_id, created_at"),
     @Index(name = "idx_notification_user_read", columnList = "user_id, is_read"),
-    @Index(name = "idx_notification_scheduled", columnList = "scheduled_time")
+    @Index(name = "idx_notification_scheduled", columnList = "scheduled_time"),
+    @Index(name = "idx_notification_pending", columnList = "is_delivered, scheduled_time"),
+    @Index(name = "idx_notification_user_delivered", columnList = "user_id, is_delivered")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_notification_coalesce", columnNames = "coalesce_key")
 })
 public class Notification {
     
@@ -50,7 +55,22 @@ public class Notification {
     @Column(name = "is_read", nullable = false)
     private Boolean isRead = false;
     
-    @Column(name = "created_at", updatable = false)
+    // Reminders stay hidden until ReminderScheduler delivers them; instant notifications are delivered on creation
+    @Column(name = "is_delivered", nullable = false, columnDefinition = "BIT(1) NOT NULL DEFAULT 0")
+    private Boolean delivered = false;
+    
+    // Number of events merged into this row by coalescing (1 for a plain notification)
+    @Column(name = "event_count", nullable = false, columnDefinition = "INT NOT NULL DEFAULT 1")
+    private Integer eventCount = 1;
+    
+    // "recipient:session:type" while coalescing may still merge into this row, NULL once closed.
+    // The unique key makes concurrent first events of a window land on the same row.
+    @Column(name = "coalesce_key", length = 120)
+    private String coalesceKey;
+    
+    // Sort key for the feed. Coalescing moves it forward when it merges an event, so the row
+    // re-sorts to the top; clients learn about the move from the stream's update event.
+    @Column(name = "created_at")
     private LocalDateTime createdAt;
     
     @PrePersist
@@ -69,6 +89,7 @@ public class Notification {
         this.message = message;
         this.isRead = false;
         this.scheduledTime = null;
+        this.delivered = true;
     }
     
     public Notification(User recipient, Session session, NotificationType type, String message, LocalDateTime scheduledTime) {
@@ -78,6 +99,7 @@ public class Notification {
         this.message = message;
         this.isRead = false;
         this.scheduledTime = scheduledTime;
+        this.delivered = scheduledTime == null;
     }
     
     public Long getId() {
@@ -128,6 +150,30 @@ public class Notification {
         isRead = read;
     }
     
+    public Boolean isDelivered() {
+        return delivered;
+    }
+    
+    public void setDelivered(Boolean delivered) {
+        this.delivered = delivered;
+    }
+    
+    public Integer getEventCount() {
+        return eventCount;
+    }
+    
+    public void setEventCount(Integer eventCount) {
+        this.eventCount = eventCount;
+    }
+    
+    public String getCoalesceKey() {
+        return coalesceKey;
+    }
+    
+    public void setCoalesceKey(String coalesceKey) {
+        this.coalesceKey = coalesceKey;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
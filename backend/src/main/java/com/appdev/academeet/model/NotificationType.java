@@ -2,6 +2,7 @@ package com.appdev.academeet.model;
 
 public enum NotificationType {
     JOIN_CONFIRMATION,
+    WAITLIST_PROMOTED,
     PARTICIPANT_JOINED,
     SESSION_UPDATED,
     SESSION_CANCELED,
@@ -13,6 +13,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -21,7 +22,11 @@ import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "session")
+@Table(name = "session", indexes = {
+    @Index(name = "idx_session_status_start_end", columnList = "session_status, start_time, end_time"),
+    @Index(name = "idx_session_host_status_start", columnList = "host_id_fk, session_status, start_time"),
+    @Index(name = "idx_session_start", columnList = "start_time")
+})
 public class Session {
 
     @Id
@@ -68,7 +73,8 @@ public class Session {
     @Column(name = "max_participants")
     private Integer maxParticipants;
 
-    @Column(name = "current_participants")
+    // Only changed through SessionRepository.tryReserveSeat/releaseSeat so concurrent joins can't lose updates
+    @Column(name = "current_participants", updatable = false)
     private Integer currentParticipants = 0;
 
     @Column(name = "created_at", updatable = false)
@@ -6,13 +6,16 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "session_note")
+@Table(name = "session_note", indexes = {
+    @Index(name = "idx_session_note_filepath", columnList = "filepath")
+})
 public class SessionNote {
 
     @Id
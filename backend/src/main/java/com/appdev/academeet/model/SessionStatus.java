@@ -1,9 +1,15 @@
 package com.appdev.academeet.model;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum SessionStatus {
     SCHEDULED,
     ACTIVE,
     COMPLETED,
     DELETED,
-    TRASH
+    TRASH;
+
+    // Sessions that have not finished yet (listed, joinable, searchable)
+    public static final Set<SessionStatus> LIVE = EnumSet.of(SCHEDULED, ACTIVE);
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -14,6 +15,8 @@ import jakarta.persistence.UniqueConstraint;
 @Entity
 @Table(name = "session_tag", uniqueConstraints = {
     @UniqueConstraint(name = "uk_session_tag", columnNames = {"session_id", "tag_name"})
+}, indexes = {
+    @Index(name = "idx_session_tag_ref", columnList = "tag_ref_id, session_id")
 })
 public class SessionTag {
 
@@ -29,6 +32,11 @@ public class SessionTag {
     @Column(name = "tag_name", nullable = false, length = 50)
     private String tagName;
 
+    // Dictionary entry for tagName; linked by TagService when the session is saved
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tag_ref_id")
+    private Tag tag;
+
     public SessionTag() {
     }
 
@@ -61,6 +69,14 @@ public class SessionTag {
         this.tagName = tagName;
     }
 
+    public Tag getTag() {
+        return tag;
+    }
+
+    public void setTag(Tag tag) {
+        this.tag = tag;
+    }
+
     @Override
     public String toString() {
         return "SessionTag{" +
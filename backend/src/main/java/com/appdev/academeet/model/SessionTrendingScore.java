@@ -0,0 +1,37 @@
+package com.appdev.academeet.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// Checkpoint of the in-memory trending scores, decayed to checkpointedAt; written by TrendingScoreRepository
+@Entity
+@Table(name = "session_trending_score")
+public class SessionTrendingScore {
+
+    @Id
+    @Column(name = "session_id")
+    private Long sessionId;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(name = "checkpointed_at", nullable = false)
+    private LocalDateTime checkpointedAt;
+
+    public SessionTrendingScore() {
+    }
+
+    public SessionTrendingScore(Long sessionId, double score, LocalDateTime checkpointedAt) {
+        this.sessionId = sessionId;
+        this.score = score;
+        this.checkpointedAt = checkpointedAt;
+    }
+
+    public Long getSessionId() { return sessionId; }
+    public double getScore() { return score; }
+    public LocalDateTime getCheckpointedAt() { return checkpointedAt; }
+}
@@ -0,0 +1,72 @@
+package com.appdev.academeet.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+// FIFO order is the auto-increment id, not queuedAt, so ties can't reorder the queue
+@Entity
+@Table(name = "session_waitlist",
+    uniqueConstraints = @UniqueConstraint(name = "uk_waitlist_session_user", columnNames = {"session_id", "user_id"}),
+    indexes = {
+        @Index(name = "idx_waitlist_session_order", columnList = "session_id, waitlist_id"),
+        @Index(name = "idx_waitlist_user", columnList = "user_id")
+    })
+public class SessionWaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "waitlist_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "session_id", nullable = false)
+    private Session session;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "queued_at", nullable = false)
+    private LocalDateTime queuedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        queuedAt = LocalDateTime.now();
+    }
+
+    public SessionWaitlistEntry() {
+    }
+
+    public SessionWaitlistEntry(Session session, User user) {
+        this.session = session;
+        this.user = user;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Session getSession() {
+        return session;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public LocalDateTime getQueuedAt() {
+        return queuedAt;
+    }
+}
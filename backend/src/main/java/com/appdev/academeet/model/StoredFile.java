@@ -0,0 +1,48 @@
+package com.appdev.academeet.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+// Content-addressed upload: one file on disk per distinct SHA-256, shared by every note that links it
+@Entity
+@Table(name = "stored_file", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_stored_file_path", columnNames = {"filepath"})
+}, indexes = {
+    @Index(name = "idx_stored_file_refs_created", columnList = "ref_count, created_at")
+})
+public class StoredFile {
+
+    // Lowercase hex SHA-256 of the content
+    @Id
+    @Column(name = "content_hash", length = 64, nullable = false)
+    private String contentHash;
+
+    @Column(name = "filepath", nullable = false, length = 255)
+    private String filepath;
+
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+
+    // Number of session notes linking the file; only changed through StoredFileRepository
+    @Column(name = "ref_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long refCount = 0L;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public StoredFile() {
+    }
+
+    public String getContentHash() { return contentHash; }
+    public String getFilepath() { return filepath; }
+    public Long getSizeBytes() { return sizeBytes; }
+    public Long getRefCount() { return refCount; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,44 @@
+package com.appdev.academeet.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+// Normalized tag dictionary; SessionTag rows reference it by id
+@Entity
+@Table(name = "tag", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_tag_name", columnNames = {"name"})
+})
+public class Tag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tag_id")
+    private Long id;
+
+    // Lowercased, trimmed, single-spaced; see TagService.normalize
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    // Number of sessions using the tag; only changed through TagRepository so merges never overwrite it
+    @Column(name = "usage_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long usageCount = 0L;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public Tag() {
+    }
+
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public Long getUsageCount() { return usageCount; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -7,7 +7,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Lob;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 
@@ -40,14 +39,17 @@ public class User {
     @Column(length = 500)
     private String bio;
 
-    @Lob
-    @Column(name = "profile_image_url", columnDefinition = "TEXT")
+    // Short /uploads/images/... URLs; image bytes live on disk (see ImageUploadService)
+    @Column(name = "profile_image_url", length = 255)
     private String profileImageUrl;
 
-    @Lob
-    @Column(name = "cover_image_url", columnDefinition = "TEXT")
+    @Column(name = "cover_image_url", length = 255)
     private String coverImageUrl;
 
+    // Written by the thumbnail worker through UserRepository only, so profile saves never clobber it
+    @Column(name = "profile_thumbnail_url", length = 255, insertable = false, updatable = false)
+    private String profileThumbnailUrl;
+
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
@@ -57,6 +59,20 @@ public class User {
     @Column(name = "refresh_token_expiry")
     private LocalDateTime refreshTokenExpiry;
 
+    // Denormalized counters; only changed through UserRepository.adjust* so merges never overwrite them
+    @Column(name = "follower_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long followerCount = 0L;
+
+    @Column(name = "following_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long followingCount = 0L;
+
+    // Every instant notification with an id at or below this one counts as read
+    @Column(name = "notifications_read_through", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long notificationsReadThrough = 0L;
+
     @PrePersist
     protected void onCreate() {
         if (this.createdAt == null) {
@@ -144,6 +160,15 @@ public class User {
         this.profileImageUrl = profileImageUrl;
     }
 
+    public String getProfileThumbnailUrl() {
+        return profileThumbnailUrl;
+    }
+
+    // Thumbnail for lists and avatars; the full image until the thumbnail worker has caught up
+    public String getAvatarUrl() {
+        return profileThumbnailUrl != null ? profileThumbnailUrl : profileImageUrl;
+    }
+
     public String getCoverImageUrl() {
         return coverImageUrl;
     }
@@ -176,6 +201,18 @@ public class User {
         this.refreshTokenExpiry = refreshTokenExpiry;
     }
 
+    public Long getFollowerCount() {
+        return followerCount;
+    }
+
+    public Long getFollowingCount() {
+        return followingCount;
+    }
+
+    public Long getNotificationsReadThrough() {
+        return notificationsReadThrough;
+    }
+
     @Override
     public String toString() {
         return "User{" +
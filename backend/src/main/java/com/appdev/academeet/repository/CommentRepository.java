@@ -1,9 +1,10 @@
 package com.appdev.academeet.repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -11,22 +12,59 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.appdev.academeet.dto.CommentDTO;
+import com.appdev.academeet.dto.ReplyDTO;
 import com.appdev.academeet.model.Comment;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     
-    @Query("SELECT c FROM Comment c WHERE c.session.id = :sessionId AND c.parentComment IS NULL ORDER BY c.createdAt ASC")
-    List<Comment> findBySessionIdOrderByCreatedAt(@Param("sessionId") Long sessionId);
+    // Projections join the author so threads render without loading Comment or User entities
+    String THREAD_SELECT = "SELECT new com.appdev.academeet.dto.CommentDTO(c.commentId, a.id, a.name, COALESCE(a.profileThumbnailUrl, a.profileImageUrl), " +
+            "c.content, c.createdAt, c.replyCount) FROM Comment c JOIN c.author a ";
+    String REPLY_SELECT = "SELECT new com.appdev.academeet.dto.ReplyDTO(c.commentId, a.id, a.name, COALESCE(a.profileThumbnailUrl, a.profileImageUrl), " +
+            "c.content, c.createdAt, CAST(NULL AS Long), CAST(NULL AS String)) FROM Comment c JOIN c.author a ";
 
-    @Query("SELECT c FROM Comment c WHERE c.session.id = :sessionId ORDER BY c.createdAt ASC")
-    List<Comment> findBySessionIdOrderByCreatedAtAsc(@Param("sessionId") Long sessionId);
+    @Query(THREAD_SELECT + "WHERE c.session.id = :sessionId AND c.parentComment IS NULL ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<CommentDTO> findThreads(@Param("sessionId") Long sessionId, Pageable pageable);
+
+    @Query(THREAD_SELECT + "WHERE c.session.id = :sessionId AND c.parentComment IS NULL " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.commentId > :commentId)) " +
+           "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<CommentDTO> findThreadsAfter(@Param("sessionId") Long sessionId, @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("commentId") Long commentId, Pageable pageable);
+
+    @Query(THREAD_SELECT + "WHERE c.commentId = :commentId")
+    Optional<CommentDTO> findThreadById(@Param("commentId") Long commentId);
+
+    @Query(REPLY_SELECT + "WHERE c.commentId = :commentId")
+    Optional<ReplyDTO> findReplyById(@Param("commentId") Long commentId);
+
+    @Query(REPLY_SELECT + "WHERE c.parentComment.commentId = :parentId ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<ReplyDTO> findReplies(@Param("parentId") Long parentId, Pageable pageable);
+
+    @Query(REPLY_SELECT + "WHERE c.parentComment.commentId = :parentId " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.commentId > :commentId)) " +
+           "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<ReplyDTO> findRepliesAfter(@Param("parentId") Long parentId, @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("commentId") Long commentId, Pageable pageable);
+
+    @Query(REPLY_SELECT + "WHERE c.parentComment.commentId IN :parentIds ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<ReplyDTO> findRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
+    // Parent id plus the reply columns for the first :perParent replies of each parent, in one statement
+    @Query(value = "SELECT r.parent_comment_id, r.comment_id, u.user_id, u.full_name, COALESCE(u.profile_thumbnail_url, u.profile_image_url), r.content, r.created_at " +
+                   "FROM (SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id ORDER BY c.created_at, c.comment_id) AS rn " +
+                   "      FROM session_comment c WHERE c.parent_comment_id IN (:parentIds)) r " +
+                   "JOIN `user` u ON u.user_id = r.author_id " +
+                   "WHERE r.rn <= :perParent ORDER BY r.parent_comment_id, r.rn", nativeQuery = true)
+    List<Object[]> findFirstRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds, @Param("perParent") int perParent);
 
     List<Comment> findByParentComment_CommentId(Long commentId);
 
-    List<Comment> findByParentComment_CommentIdIn(Collection<Long> parentIds);
+    @Query("SELECT c.session.id, COUNT(c) FROM Comment c WHERE c.session.id IN :sessionIds GROUP BY c.session.id")
+    List<Object[]> countBySessionIdIn(@Param("sessionIds") Collection<Long> sessionIds);
 
-    Page<Comment> findByParentCommentIsNullAndSessionIdOrderByCreatedAtAsc(Long sessionId, Pageable pageable);
 
     @Modifying
     @Query("UPDATE Comment c SET c.replyCount = c.replyCount + :delta WHERE c.commentId = :id")
@@ -0,0 +1,75 @@
+package com.appdev.academeet.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.appdev.academeet.model.NotificationType;
+
+/**
+ * Plain JDBC batch inserts for notification fan-out. IDENTITY keys stop
+ * Hibernate from batching, so large recipient lists go through here instead.
+ * The generated ids are returned so callers can load exactly the rows they
+ * wrote.
+ */
+@Repository
+public class NotificationBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (user_id, session_id, type, message, scheduled_time, is_read, is_delivered, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, false, ?, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Returns the new notification ids in recipient order
+    public List<Long> insertAll(List<Long> recipientIds, Long sessionId, NotificationType type, String message,
+                                LocalDateTime scheduledTime, LocalDateTime createdAt) {
+        Timestamp scheduled = scheduledTime != null ? Timestamp.valueOf(scheduledTime) : null;
+        Timestamp created = Timestamp.valueOf(createdAt);
+
+        List<Long> ids = new ArrayList<>(recipientIds.size());
+        for (int from = 0; from < recipientIds.size(); from += BATCH_SIZE) {
+            List<Long> chunk = recipientIds.subList(from, Math.min(from + BATCH_SIZE, recipientIds.size()));
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, new String[] { "notification_id" }),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ps.setLong(1, chunk.get(i));
+                            ps.setObject(2, sessionId);
+                            ps.setString(3, type.name());
+                            ps.setString(4, message);
+                            ps.setTimestamp(5, scheduled);
+                            ps.setBoolean(6, scheduled == null);
+                            ps.setTimestamp(7, created);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder);
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                ids.add(((Number) keys.values().iterator().next()).longValue());
+            }
+        }
+        return ids;
+    }
+}
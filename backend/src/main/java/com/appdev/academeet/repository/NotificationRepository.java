@@ -2,41 +2,152 @@ package com.appdev.academeet.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.appdev.academeet.dto.NotificationDTO;
 import com.appdev.academeet.model.Notification;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
   
-    // Regular notifications (exclude reminders which have scheduledTime)
-    @Query("SELECT n FROM Notification n WHERE n.recipient.id = :userId AND n.scheduledTime IS NULL ORDER BY n.createdAt DESC")
-    List<Notification> findAllByUserId(@Param("userId") Long userId);
-    
-    @Query("SELECT n FROM Notification n WHERE n.recipient.id = :userId AND n.isRead = false AND n.scheduledTime IS NULL ORDER BY n.createdAt DESC")
-    List<Notification> findUnreadByUserId(@Param("userId") Long userId);
+    // Regular notifications (exclude reminders which have scheduledTime). A row is read when its
+    // flag is set or its id is at or below the user's read-through watermark.
+    String FEED_SELECT = "SELECT new com.appdev.academeet.dto.NotificationDTO(n.id, s.id, s.title, n.type, n.message, " +
+            "CASE WHEN n.isRead = true OR n.id <= :readThrough THEN true ELSE false END, n.eventCount, n.createdAt, n.scheduledTime) " +
+            "FROM Notification n LEFT JOIN n.session s ";
+    String FEED_FILTER = "WHERE n.recipient.id = :userId AND n.scheduledTime IS NULL " +
+            "AND (:unreadOnly = false OR (n.isRead = false AND n.id > :readThrough)) ";
+    // Coalescing bumps created_at, so a merged row can move above a client's cursor; it is not served
+    // again by later pages, and the stream's update event carries it to the top instead
+    String FEED_ORDER = "ORDER BY n.createdAt DESC, n.id DESC";
+
+    @Query(FEED_SELECT + FEED_FILTER + FEED_ORDER)
+    List<NotificationDTO> findFeed(@Param("userId") Long userId, @Param("readThrough") Long readThrough,
+                                   @Param("unreadOnly") boolean unreadOnly, Pageable pageable);
+
+    // Keyset continuation on (created_at, id), served by idx_notification_user_created
+    @Query(FEED_SELECT + FEED_FILTER +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " + FEED_ORDER)
+    List<NotificationDTO> findFeedAfter(@Param("userId") Long userId, @Param("readThrough") Long readThrough,
+                                        @Param("unreadOnly") boolean unreadOnly,
+                                        @Param("createdAt") java.time.LocalDateTime createdAt, @Param("id") Long id,
+                                        Pageable pageable);
   
-    @Query("SELECT COUNT(n) FROM Notification n WHERE n.recipient.id = :userId AND n.isRead = false AND n.scheduledTime IS NULL")
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.recipient.id = :userId AND n.isRead = false AND n.scheduledTime IS NULL " +
+           "AND n.id > (SELECT u.notificationsReadThrough FROM User u WHERE u.id = :userId)")
     Long countUnreadByUserId(@Param("userId") Long userId);
     
+    @Query("SELECT MAX(n.id) FROM Notification n WHERE n.recipient.id = :userId AND n.scheduledTime IS NULL " +
+           "AND n.createdAt <= :createdBefore")
+    Long findLatestInstantIdByUserIdCreatedBefore(@Param("userId") Long userId,
+                                                  @Param("createdBefore") java.time.LocalDateTime createdBefore);
+    
+    // Pins the read state of rows above a notification before the watermark is lowered beneath it
     @Modifying
-    @Query("UPDATE Notification n SET n.isRead = true WHERE n.recipient.id = :userId AND n.isRead = false AND n.scheduledTime IS NULL")
-    void markAllAsReadByUserId(@Param("userId") Long userId);
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.recipient.id = :userId AND n.scheduledTime IS NULL " +
+           "AND n.isRead = false AND n.id > :fromId AND n.id <= :toId")
+    int markReadBetween(@Param("userId") Long userId, @Param("fromId") Long fromId, @Param("toId") Long toId);
+    
+    // Resume window for the notification stream: instant notifications after the last id the client saw
+    @Query(FEED_SELECT + "WHERE n.recipient.id = :userId AND n.scheduledTime IS NULL AND n.id > :afterId ORDER BY n.id ASC")
+    List<NotificationDTO> findInstantByUserIdAfter(@Param("userId") Long userId, @Param("readThrough") Long readThrough,
+                                                   @Param("afterId") Long afterId, Pageable pageable);
+    
+    // Rows a resuming client may hold a stale copy of: still-unread coalesced rows at or below its cursor
+    @Query(FEED_SELECT + "WHERE n.recipient.id = :userId AND n.scheduledTime IS NULL AND n.id <= :upToId " +
+           "AND n.eventCount > 1 AND n.isRead = false AND n.id > :readThrough ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationDTO> findUnreadCoalescedUpTo(@Param("userId") Long userId, @Param("readThrough") Long readThrough,
+                                                  @Param("upToId") Long upToId, Pageable pageable);
+    
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.session WHERE n.id IN :ids")
+    List<Notification> findAllWithSessionByIdIn(@Param("ids") java.util.Collection<Long> ids);
     
-    @Query("SELECT n FROM Notification n WHERE n.recipient.id = :userId AND n.scheduledTime IS NOT NULL AND n.scheduledTime <= :currentTime ORDER BY n.scheduledTime DESC")
-    List<Notification> findActiveRemindersByUserId(@Param("userId") Long userId, @Param("currentTime") java.time.LocalDateTime currentTime);
+    // Reminders become visible once ReminderScheduler has delivered them
+    @Query("SELECT n FROM Notification n WHERE n.recipient.id = :userId AND n.delivered = true AND n.scheduledTime IS NOT NULL ORDER BY n.scheduledTime DESC")
+    List<Notification> findActiveRemindersByUserId(@Param("userId") Long userId);
     
-    @Query("SELECT COUNT(n) FROM Notification n WHERE n.recipient.id = :userId AND n.scheduledTime IS NOT NULL AND n.isRead = false AND n.scheduledTime <= :currentTime")
-    Long countUnreadRemindersByUserId(@Param("userId") Long userId, @Param("currentTime") java.time.LocalDateTime currentTime);
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.recipient.id = :userId AND n.delivered = true AND n.scheduledTime IS NOT NULL AND n.isRead = false")
+    Long countUnreadRemindersByUserId(@Param("userId") Long userId);
+    
+    @Query("SELECT n.id FROM Notification n WHERE n.recipient.id = :userId AND n.session.id = :sessionId AND n.scheduledTime IS NOT NULL")
+    List<Long> findReminderIdsByUserIdAndSessionId(@Param("userId") Long userId, @Param("sessionId") Long sessionId);
     
     @Modifying
     @Query("DELETE FROM Notification n WHERE n.recipient.id = :userId AND n.session.id = :sessionId AND n.scheduledTime IS NOT NULL")
     void deleteRemindersByUserIdAndSessionId(@Param("userId") Long userId, @Param("sessionId") Long sessionId);
     
+    @Query("SELECT n.id FROM Notification n WHERE n.session.id = :sessionId AND n.scheduledTime IS NOT NULL")
+    List<Long> findReminderIdsBySessionId(@Param("sessionId") Long sessionId);
+    
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.session.id = :sessionId AND n.scheduledTime IS NOT NULL")
+    void deleteRemindersBySessionId(@Param("sessionId") Long sessionId);
+    
+    // Releases the coalescing key of a row that was read or whose window has passed, so the next event starts a new row
+    @Modifying
+    @Query(value = "UPDATE notifications SET coalesce_key = NULL WHERE coalesce_key = :key " +
+                   "AND (created_at < :since OR is_read = true OR notification_id <= :readThrough)", nativeQuery = true)
+    int closeCoalescing(@Param("key") String key, @Param("since") java.time.LocalDateTime since,
+                        @Param("readThrough") Long readThrough);
+    
+    // Starts the open row for the key or merges into it; concurrent callers serialize on uk_notification_coalesce
+    @Modifying
+    @Query(value = "INSERT INTO notifications (user_id, session_id, type, message, is_read, is_delivered, event_count, " +
+                   "coalesce_key, created_at) VALUES (:userId, :sessionId, :type, :message, false, true, 1, :key, :now) " +
+                   "ON DUPLICATE KEY UPDATE event_count = event_count + 1, created_at = :now", nativeQuery = true)
+    int upsertCoalescing(@Param("userId") Long userId, @Param("sessionId") Long sessionId, @Param("type") String type,
+                         @Param("message") String message, @Param("key") String key,
+                         @Param("now") java.time.LocalDateTime now);
+    
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.session WHERE n.coalesceKey = :key")
+    java.util.Optional<Notification> findByCoalesceKey(@Param("key") String key);
+    
+    // Retention: candidate ids are selected in chunks, then deleted by primary key
+    @Query("SELECT n.id FROM Notification n WHERE n.type = :type AND n.scheduledTime IS NULL AND n.createdAt < :cutoff " +
+           "AND (n.isRead = true OR n.id <= (SELECT u.notificationsReadThrough FROM User u WHERE u.id = n.recipient.id))")
+    List<Long> findExpiredReadIds(@Param("type") com.appdev.academeet.model.NotificationType type,
+                                  @Param("cutoff") java.time.LocalDateTime cutoff, Pageable pageable);
+    
+    @Query("SELECT n.id FROM Notification n WHERE n.scheduledTime IS NULL AND n.createdAt < :cutoff")
+    List<Long> findIdsCreatedBefore(@Param("cutoff") java.time.LocalDateTime cutoff, Pageable pageable);
+    
+    @Query("SELECT n.id FROM Notification n WHERE n.type = :type AND n.scheduledTime IS NOT NULL " +
+           "AND (n.scheduledTime < :cutoff OR n.session.sessionStatus IN :finishedStatuses)")
+    List<Long> findExpiredReminderIds(@Param("type") com.appdev.academeet.model.NotificationType type,
+                                      @Param("cutoff") java.time.LocalDateTime cutoff,
+                                      @Param("finishedStatuses") java.util.Collection<com.appdev.academeet.model.SessionStatus> finishedStatuses,
+                                      Pageable pageable);
+    
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIdIn(@Param("ids") java.util.Collection<Long> ids);
+    
+    // Unread duplicates of one type per (recipient, session): recipientId, sessionId, count
+    @Query("SELECT n.recipient.id, n.session.id, COUNT(n) FROM Notification n WHERE n.type = :type " +
+           "AND n.scheduledTime IS NULL AND n.isRead = false AND n.session IS NOT NULL " +
+           "AND n.id > (SELECT u.notificationsReadThrough FROM User u WHERE u.id = n.recipient.id) " +
+           "GROUP BY n.recipient.id, n.session.id HAVING COUNT(n) > 1")
+    List<Object[]> findCollapsibleGroups(@Param("type") com.appdev.academeet.model.NotificationType type);
+    
+    @Query("SELECT n.id, n.createdAt, n.eventCount FROM Notification n WHERE n.type = :type AND n.recipient.id = :userId " +
+           "AND n.session.id = :sessionId AND n.scheduledTime IS NULL AND n.isRead = false " +
+           "AND n.id > (SELECT u.notificationsReadThrough FROM User u WHERE u.id = :userId)")
+    List<Object[]> findCollapsibleRows(@Param("type") com.appdev.academeet.model.NotificationType type,
+                                       @Param("userId") Long userId, @Param("sessionId") Long sessionId);
+    
+    // Undelivered reminders due before the horizon, read through idx_notification_pending
+    @Query("SELECT n.id, n.scheduledTime FROM Notification n WHERE n.delivered = false AND n.scheduledTime IS NOT NULL AND n.scheduledTime < :until")
+    List<Object[]> findPendingReminderSchedule(@Param("until") java.time.LocalDateTime until);
+    
+    @Modifying
+    @Query("UPDATE Notification n SET n.delivered = true WHERE n.id IN :ids AND n.delivered = false")
+    int markDelivered(@Param("ids") java.util.Collection<Long> ids);
+    
     @Query("SELECT CASE WHEN COUNT(n) > 0 THEN true ELSE false END FROM Notification n WHERE n.recipient.id = :userId AND n.session.id = :sessionId AND n.scheduledTime IS NOT NULL")
     boolean existsReminderByUserIdAndSessionId(@Param("userId") Long userId, @Param("sessionId") Long sessionId);
 }
@@ -1,8 +1,11 @@
 package com.appdev.academeet.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.appdev.academeet.model.SessionNote;
@@ -13,4 +16,7 @@ public interface SessionNoteRepository extends JpaRepository<SessionNote, String
     List<SessionNote> findBySession_Id(Long sessionId);
     long countBySession_Id(Long sessionId);
     void deleteBySession_Id(Long sessionId);
+
+    @Query("SELECT n.session.id, n.filepath FROM SessionNote n WHERE n.session.id IN :sessionIds ORDER BY n.linkedAt")
+    List<Object[]> findSessionIdAndFilepathBySessionIdIn(@Param("sessionIds") Collection<Long> sessionIds);
 }
\ No newline at end of file
@@ -1,26 +1,38 @@
 package com.appdev.academeet.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.appdev.academeet.model.SessionParticipant;
 import com.appdev.academeet.model.SessionParticipantId;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface SessionParticipantRepository extends JpaRepository<SessionParticipant, SessionParticipantId> {
     
     @Query("SELECT sp FROM SessionParticipant sp WHERE sp.id.sessionId = :sessionId")
     List<SessionParticipant> findBySessionId(Long sessionId);
     
+    @Query("SELECT sp.id.participantId FROM SessionParticipant sp WHERE sp.id.sessionId = :sessionId")
+    List<Long> findParticipantIdsBySessionId(Long sessionId);
+    
     @Query("SELECT sp FROM SessionParticipant sp WHERE sp.id.participantId = :userId")
     List<SessionParticipant> findByUserId(Long userId);
    
     @Query("SELECT sp FROM SessionParticipant sp WHERE sp.id.sessionId = :sessionId AND sp.id.participantId = :userId")
     Optional<SessionParticipant> findBySessionIdAndUserId(Long sessionId, Long userId);
+
+    // SELECT ... FOR UPDATE: a concurrent cancel either commits first (no row) or waits for the caller
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT sp FROM SessionParticipant sp WHERE sp.id.sessionId = :sessionId AND sp.id.participantId = :userId")
+    Optional<SessionParticipant> lockBySessionIdAndUserId(Long sessionId, Long userId);
     
     @Query("SELECT CASE WHEN COUNT(sp) > 0 THEN true ELSE false END FROM SessionParticipant sp WHERE sp.id.sessionId = :sessionId AND sp.id.participantId = :userId")
     boolean existsBySessionIdAndUserId(Long sessionId, Long userId);
@@ -28,6 +40,9 @@ public interface SessionParticipantRepository extends JpaRepository<SessionParti
     @Query("SELECT COUNT(sp) FROM SessionParticipant sp WHERE sp.id.sessionId = :sessionId")
     long countBySessionId(Long sessionId);
 
+    @Query("SELECT sp.id.sessionId, COUNT(sp) FROM SessionParticipant sp WHERE sp.id.sessionId IN :sessionIds GROUP BY sp.id.sessionId")
+    List<Object[]> countBySessionIdIn(Collection<Long> sessionIds);
+
     @Query("DELETE FROM SessionParticipant sp WHERE sp.id.sessionId = :sessionId")
     void deleteBySessionId(Long sessionId);
 
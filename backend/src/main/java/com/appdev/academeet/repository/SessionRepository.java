@@ -1,19 +1,62 @@
 package com.appdev.academeet.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.appdev.academeet.model.Session;
 import com.appdev.academeet.model.SessionStatus;
 
 @Repository
-public interface SessionRepository extends JpaRepository<Session, Long> {
+public interface SessionRepository extends JpaRepository<Session, Long>, SessionSearchRepository {
+    // Capacity is checked and claimed in one statement; 0 rows means the session is full or no longer live
+    @Modifying
+    @Query("UPDATE Session s SET s.currentParticipants = s.currentParticipants + 1 " +
+           "WHERE s.id = :id AND s.sessionStatus IN (com.appdev.academeet.model.SessionStatus.SCHEDULED, " +
+           "com.appdev.academeet.model.SessionStatus.ACTIVE) " +
+           "AND (s.maxParticipants IS NULL OR s.currentParticipants < s.maxParticipants)")
+    int tryReserveSeat(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.currentParticipants = s.currentParticipants - 1 WHERE s.id = :id AND s.currentParticipants > 0")
+    int releaseSeat(@Param("id") Long id);
+
+    // Status transitions, each driven by the (session_status, start_time, end_time) index. Rows without an
+    // end_time are treated as ending SessionStatusCalculator.DEFAULT_DURATION after they start, i.e. they
+    // have ended once start_time <= :openEndedBefore.
+    @Modifying
+    @Query("UPDATE Session s SET s.sessionStatus = com.appdev.academeet.model.SessionStatus.SCHEDULED " +
+           "WHERE s.sessionStatus = com.appdev.academeet.model.SessionStatus.ACTIVE AND s.startTime > :now")
+    int rescheduleNotStarted(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.sessionStatus = com.appdev.academeet.model.SessionStatus.ACTIVE " +
+           "WHERE s.sessionStatus = com.appdev.academeet.model.SessionStatus.SCHEDULED " +
+           "AND s.startTime <= :now " +
+           "AND (s.endTime > :now OR (s.endTime IS NULL AND s.startTime > :openEndedBefore))")
+    int activateStarted(@Param("now") LocalDateTime now, @Param("openEndedBefore") LocalDateTime openEndedBefore);
+
+    // Ended sessions are completed by id so the same ids can be dropped from the search index
+    @Query("SELECT s.id FROM Session s " +
+           "WHERE s.sessionStatus IN (com.appdev.academeet.model.SessionStatus.SCHEDULED, com.appdev.academeet.model.SessionStatus.ACTIVE) " +
+           "AND s.startTime <= :now " +
+           "AND (s.endTime <= :now OR (s.endTime IS NULL AND s.startTime <= :openEndedBefore))")
+    List<Long> findEndedLiveIds(@Param("now") LocalDateTime now, @Param("openEndedBefore") LocalDateTime openEndedBefore);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.sessionStatus = com.appdev.academeet.model.SessionStatus.COMPLETED " +
+           "WHERE s.id IN :ids " +
+           "AND s.sessionStatus IN (com.appdev.academeet.model.SessionStatus.SCHEDULED, com.appdev.academeet.model.SessionStatus.ACTIVE)")
+    int completeByIds(@Param("ids") Collection<Long> ids);
+
     // Read/Status
     List<Session> findByHost_Id(Long userId);
     List<Session> findByHost(com.appdev.academeet.model.User host);
@@ -31,22 +74,19 @@ public interface SessionRepository extends JpaRepository<Session, Long> {
     Page<Session> findByTitleContainingIgnoreCase(String keyword, Pageable pageable);
     Page<Session> findByTitleContainingIgnoreCaseAndSessionStatus(String keyword, SessionStatus status, Pageable pageable);
 
-    // Trending sessions ranked by tag popularity (top 4)
-    @Query("SELECT s FROM Session s " +
-           "LEFT JOIN s.sessionTags st " +
-           "WHERE s.sessionStatus NOT IN ('DELETED', 'TRASH', 'COMPLETED') AND st.tagName IN (" +
-           "  SELECT t.tagName FROM SessionTag t " +
-           "  GROUP BY t.tagName " +
-           "  ORDER BY COUNT(t) DESC" +
-           ") " +
-           "GROUP BY s.id " +
-           "ORDER BY COUNT(st) DESC")
-    List<Session> findTrendingSessions(Pageable pageable);
-
-    // Find sessions by date components
-    @Query("SELECT s FROM Session s WHERE " +
-           "YEAR(s.startTime) = :year AND " +
-           "MONTH(s.startTime) = :month AND " +
-           "DAY(s.startTime) = :day")
-    List<Session> findByYearMonthDay(int year, int month, int day);
+    @Query("SELECT s.id FROM Session s WHERE s.sessionStatus IN :statuses")
+    List<Long> findIdsByStatusIn(@Param("statuses") Collection<SessionStatus> statuses);
+
+    @Query("SELECT s.id, h.id, h.name FROM Session s JOIN s.host h WHERE s.id IN :ids")
+    List<Object[]> findHostsBySessionIds(@Param("ids") Collection<Long> ids);
+
+    // Projection used to build the in-memory search index without hydrating sessions
+    @Query("SELECT s.id, s.title, s.description, s.location FROM Session s WHERE s.sessionStatus IN :statuses")
+    List<Object[]> findSearchableFields(@Param("statuses") Collection<SessionStatus> statuses);
+
+    // Half-open range on the bare start_time column so idx_session_start is used
+    @Query("SELECT s FROM Session s WHERE s.startTime >= :from AND s.startTime < :to " +
+           "AND s.sessionStatus NOT IN (com.appdev.academeet.model.SessionStatus.DELETED, com.appdev.academeet.model.SessionStatus.TRASH) " +
+           "ORDER BY s.startTime ASC, s.id ASC")
+    List<Session> findStartingBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
\ No newline at end of file
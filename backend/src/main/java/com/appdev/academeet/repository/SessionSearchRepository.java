@@ -0,0 +1,19 @@
+package com.appdev.academeet.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.appdev.academeet.model.Session;
+
+public interface SessionSearchRepository {
+
+    // Filtered, ordered and limited in a single SQL statement (no count query)
+    List<Session> search(Specification<Session> spec, SessionSpecifications.SearchSort sort, String keyword, int limit);
+
+    // Keyset page ordered by (start_time, id); pair with SessionSpecifications.startsAfterCursor
+    List<Session> findPage(Specification<Session> spec, boolean descending, int limit);
+
+    // Same filter and order without a limit, for the legacy unpaged list endpoints
+    List<Session> findOrdered(Specification<Session> spec, boolean descending);
+}
@@ -0,0 +1,66 @@
+package com.appdev.academeet.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.appdev.academeet.model.Session;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class SessionSearchRepositoryImpl implements SessionSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Session> search(Specification<Session> spec, SessionSpecifications.SearchSort sort, String keyword, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Session> query = cb.createQuery(Session.class);
+        Root<Session> root = query.from(Session.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(SessionSpecifications.searchOrder(root, cb, sort, keyword));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Session> findPage(Specification<Session> spec, boolean descending, int limit) {
+        return orderedQuery(spec, descending)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Session> findOrdered(Specification<Session> spec, boolean descending) {
+        return orderedQuery(spec, descending).getResultList();
+    }
+
+    private TypedQuery<Session> orderedQuery(Specification<Session> spec, boolean descending) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Session> query = cb.createQuery(Session.class);
+        Root<Session> root = query.from(Session.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(descending
+                ? List.of(cb.desc(root.get("startTime")), cb.desc(root.get("id")))
+                : List.of(cb.asc(root.get("startTime")), cb.asc(root.get("id"))));
+
+        return entityManager.createQuery(query);
+    }
+}
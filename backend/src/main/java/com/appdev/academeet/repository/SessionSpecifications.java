@@ -0,0 +1,213 @@
+package com.appdev.academeet.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.appdev.academeet.model.Session;
+import com.appdev.academeet.model.SessionParticipant;
+import com.appdev.academeet.model.SessionPrivacy;
+import com.appdev.academeet.model.SessionStatus;
+import com.appdev.academeet.model.SessionTag;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Composable Criteria predicates for session queries, so filters run in SQL
+ * instead of over a fully hydrated table.
+ */
+public class SessionSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    public enum SearchSort {
+        RELEVANCE,
+        NEWEST,
+        OLDEST;
+
+        public static SearchSort from(String sortBy) {
+            if ("newest".equalsIgnoreCase(sortBy)) return NEWEST;
+            if ("oldest".equalsIgnoreCase(sortBy)) return OLDEST;
+            return RELEVANCE;
+        }
+    }
+
+    public static Specification<Session> hasStatus(SessionStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("sessionStatus"), status);
+    }
+
+    public static Specification<Session> hasStatusIn(Collection<SessionStatus> statuses) {
+        return (root, query, cb) -> root.get("sessionStatus").in(statuses);
+    }
+
+    public static Specification<Session> hostedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("host").get("id"), userId);
+    }
+
+    // Integer-keyed semi-join through the tag dictionary
+    public static Specification<Session> hasTag(Long tagId) {
+        return (root, query, cb) -> {
+            Subquery<Long> tagged = query.subquery(Long.class);
+            Root<SessionTag> sessionTag = tagged.from(SessionTag.class);
+            tagged.select(sessionTag.get("session").get("id"))
+                  .where(cb.equal(sessionTag.get("tag").get("id"), tagId));
+            return root.get("id").in(tagged);
+        };
+    }
+
+    // Semi-join on session_participant so the participant index drives the lookup
+    public static Specification<Session> joinedBy(Long userId) {
+        return (root, query, cb) -> {
+            Subquery<Long> joined = query.subquery(Long.class);
+            Root<SessionParticipant> participant = joined.from(SessionParticipant.class);
+            joined.select(participant.get("id").get("sessionId"))
+                  .where(cb.equal(participant.get("id").get("participantId"), userId));
+            return root.get("id").in(joined);
+        };
+    }
+
+    // Keyset predicate for pages ordered by (start_time, id)
+    public static Specification<Session> startsAfterCursor(LocalDateTime startTime, Long id, boolean descending) {
+        return (root, query, cb) -> {
+            Path<LocalDateTime> start = root.get("startTime");
+            Path<Long> idPath = root.get("id");
+            return descending
+                    ? cb.or(cb.lessThan(start, startTime), cb.and(cb.equal(start, startTime), cb.lessThan(idPath, id)))
+                    : cb.or(cb.greaterThan(start, startTime), cb.and(cb.equal(start, startTime), cb.greaterThan(idPath, id)));
+        };
+    }
+
+    public static Specification<Session> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Session> hasPrivacy(SessionPrivacy privacy) {
+        return (root, query, cb) -> cb.equal(root.get("sessionPrivacy"), privacy);
+    }
+
+    // Title, location or any tag contains the keyword (case-insensitive)
+    public static Specification<Session> matchesKeyword(String keyword) {
+        return (root, query, cb) -> {
+            String pattern = "%" + escapeLike(keyword.toLowerCase()) + "%";
+
+            Subquery<Long> tagMatch = query.subquery(Long.class);
+            Root<SessionTag> tag = tagMatch.from(SessionTag.class);
+            tagMatch.select(tag.get("tagId"))
+                    .where(cb.equal(tag.get("session"), root),
+                           cb.like(cb.lower(tag.get("tagName")), pattern, LIKE_ESCAPE));
+
+            return cb.or(
+                    cb.like(cb.lower(root.get("title")), pattern, LIKE_ESCAPE),
+                    cb.like(cb.lower(root.get("location")), pattern, LIKE_ESCAPE),
+                    cb.exists(tagMatch));
+        };
+    }
+
+    // Half-open range on start_time so the index can be used
+    public static Specification<Session> startsBetween(LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("startTime"), from),
+                cb.lessThan(root.get("startTime"), to));
+    }
+
+    public static Specification<Session> startsOn(LocalDate date) {
+        return startsBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    public static Specification<Session> startsDuringTimeOfDay(String timeOfDay) {
+        return (root, query, cb) -> {
+            Expression<Integer> hour = cb.function("hour", Integer.class, root.get("startTime"));
+            switch (timeOfDay.toLowerCase()) {
+                case "morning":
+                    // 6:00 AM to 11:59 AM (hour 6-11)
+                    return cb.between(hour, 6, 11);
+                case "afternoon":
+                    // 12:00 PM to 5:59 PM (hour 12-17)
+                    return cb.between(hour, 12, 17);
+                case "evening":
+                    // 6:00 PM to 11:59 PM (hour 18-23)
+                    return cb.between(hour, 18, 23);
+                case "night":
+                    // 12:00 AM to 5:59 AM (hour 0-5)
+                    return cb.between(hour, 0, 5);
+                default:
+                    return null;
+            }
+        };
+    }
+
+    // Keyset predicate: rows strictly after the cursor position for the given sort.
+    // Checked here rather than when the query runs, so a malformed cursor fails before any SQL is issued.
+    public static Specification<Session> after(SearchSort sort, String keyword, Integer rank,
+                                               LocalDateTime time, Long id) {
+        if (time == null || id == null || (sort == SearchSort.RELEVANCE && rank == null)) {
+            throw new IllegalArgumentException("Incomplete cursor for " + sort + " sort");
+        }
+        return (root, query, cb) -> {
+            Path<Long> idPath = root.get("id");
+            switch (sort) {
+                case NEWEST: {
+                    Path<LocalDateTime> createdAt = root.get("createdAt");
+                    return cb.or(cb.lessThan(createdAt, time),
+                            cb.and(cb.equal(createdAt, time), cb.lessThan(idPath, id)));
+                }
+                case OLDEST: {
+                    Path<LocalDateTime> createdAt = root.get("createdAt");
+                    return cb.or(cb.greaterThan(createdAt, time),
+                            cb.and(cb.equal(createdAt, time), cb.greaterThan(idPath, id)));
+                }
+                default: {
+                    Expression<Integer> titleRank = titleRank(root, cb, keyword);
+                    Path<LocalDateTime> startTime = root.get("startTime");
+                    Predicate sameRankAfter = cb.or(cb.greaterThan(startTime, time),
+                            cb.and(cb.equal(startTime, time), cb.greaterThan(idPath, id)));
+                    return cb.or(cb.greaterThan(titleRank, rank),
+                            cb.and(cb.equal(titleRank, rank), sameRankAfter));
+                }
+            }
+        };
+    }
+
+    public static List<Order> searchOrder(Root<Session> root, CriteriaBuilder cb, SearchSort sort, String keyword) {
+        switch (sort) {
+            case NEWEST:
+                return List.of(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+            case OLDEST:
+                return List.of(cb.asc(root.get("createdAt")), cb.asc(root.get("id")));
+            default:
+                return List.of(cb.asc(titleRank(root, cb, keyword)),
+                        cb.asc(root.get("startTime")), cb.asc(root.get("id")));
+        }
+    }
+
+    // 0 when the title starts with the keyword, 1 otherwise
+    public static Expression<Integer> titleRank(Root<Session> root, CriteriaBuilder cb, String keyword) {
+        if (keyword == null || keyword.isEmpty()) {
+            return cb.literal(0);
+        }
+        String prefix = escapeLike(keyword.toLowerCase()) + "%";
+        return cb.<Integer>selectCase()
+                .when(cb.like(cb.lower(root.get("title")), prefix, LIKE_ESCAPE), 0)
+                .otherwise(1);
+    }
+
+    public static int titleRank(Session session, String keyword) {
+        if (keyword == null || keyword.isEmpty()) {
+            return 0;
+        }
+        return session.getTitle() != null && session.getTitle().toLowerCase().startsWith(keyword.toLowerCase()) ? 0 : 1;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
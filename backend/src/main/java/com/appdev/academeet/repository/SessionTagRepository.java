@@ -1,8 +1,12 @@
 package com.appdev.academeet.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.appdev.academeet.model.SessionTag;
@@ -11,9 +15,21 @@ import com.appdev.academeet.model.SessionTag;
 public interface SessionTagRepository extends JpaRepository<SessionTag, Long> {
     List<SessionTag> findBySessionId(Long sessionId);
    
-    List<SessionTag> findByTagName(String tagName);
 
     void deleteBySessionId(Long sessionId);
     
     boolean existsBySessionIdAndTagName(Long sessionId, String tagName);
+
+    @Query("SELECT t.session.id, t.tagName FROM SessionTag t")
+    List<Object[]> findAllSessionIdAndTagName();
+
+    @Query("SELECT t.session.id, t.tagName FROM SessionTag t WHERE t.session.id IN :sessionIds ORDER BY t.tagId")
+    List<Object[]> findSessionIdAndTagNameBySessionIdIn(@Param("sessionIds") Collection<Long> sessionIds);
+
+    @Query("SELECT st.session.id, t.usageCount FROM SessionTag st JOIN st.tag t WHERE st.session.id IN :sessionIds")
+    List<Object[]> findSessionIdAndTagUsageBySessionIdIn(@Param("sessionIds") Collection<Long> sessionIds);
+
+    // Rows written before the tag dictionary existed
+    @Query("SELECT st FROM SessionTag st WHERE st.tag IS NULL AND st.tagId > :afterId ORDER BY st.tagId")
+    List<SessionTag> findUnlinkedAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,46 @@
+package com.appdev.academeet.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.appdev.academeet.model.SessionWaitlistEntry;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface SessionWaitlistRepository extends JpaRepository<SessionWaitlistEntry, Long> {
+
+    @Query("SELECT CASE WHEN COUNT(w) > 0 THEN true ELSE false END FROM SessionWaitlistEntry w WHERE w.session.id = :sessionId")
+    boolean existsBySessionId(@Param("sessionId") Long sessionId);
+
+    @Query("SELECT CASE WHEN COUNT(w) > 0 THEN true ELSE false END FROM SessionWaitlistEntry w " +
+           "WHERE w.session.id = :sessionId AND w.user.id = :userId")
+    boolean existsBySessionIdAndUserId(@Param("sessionId") Long sessionId, @Param("userId") Long userId);
+
+    @Query("SELECT w FROM SessionWaitlistEntry w WHERE w.session.id = :sessionId AND w.user.id = :userId")
+    Optional<SessionWaitlistEntry> findBySessionIdAndUserId(@Param("sessionId") Long sessionId, @Param("userId") Long userId);
+
+    // Head of the queue, row-locked so two concurrent seat releases can't promote the same entry
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM SessionWaitlistEntry w JOIN FETCH w.session JOIN FETCH w.user " +
+           "WHERE w.session.id = :sessionId ORDER BY w.id ASC")
+    List<SessionWaitlistEntry> findHeadForUpdate(@Param("sessionId") Long sessionId, Pageable pageable);
+
+    @Query("SELECT COUNT(w) FROM SessionWaitlistEntry w WHERE w.session.id = :sessionId AND w.id <= :entryId")
+    long countAheadOrAt(@Param("sessionId") Long sessionId, @Param("entryId") Long entryId);
+
+    @Query("SELECT COUNT(w) FROM SessionWaitlistEntry w WHERE w.session.id = :sessionId")
+    long countBySessionId(@Param("sessionId") Long sessionId);
+
+    @Modifying
+    @Query("DELETE FROM SessionWaitlistEntry w WHERE w.session.id = :sessionId")
+    int deleteBySessionId(@Param("sessionId") Long sessionId);
+}
@@ -0,0 +1,54 @@
+package com.appdev.academeet.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.appdev.academeet.model.StoredFile;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+
+    Optional<StoredFile> findByFilepath(String filepath);
+
+    // Identical concurrent uploads race on the hash and the loser reuses the winner's path. Re-uploading
+    // a known file restarts its grace period, so cleanup cannot purge it before a note links it.
+    @Modifying
+    @Query(value = "INSERT INTO stored_file (content_hash, filepath, size_bytes, ref_count, created_at) " +
+                   "VALUES (:hash, :filepath, :size, 0, NOW()) ON DUPLICATE KEY UPDATE created_at = NOW()",
+           nativeQuery = true)
+    int insertOrTouch(@Param("hash") String hash, @Param("filepath") String filepath, @Param("size") long size);
+
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.refCount = f.refCount + 1 WHERE f.filepath = :filepath")
+    int acquire(@Param("filepath") String filepath);
+
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.refCount = f.refCount - 1 WHERE f.filepath = :filepath AND f.refCount > 0")
+    int release(@Param("filepath") String filepath);
+
+    // Removes the row only if nothing re-acquired it in between
+    @Modifying
+    @Query("DELETE FROM StoredFile f WHERE f.filepath = :filepath AND f.refCount = 0")
+    int deleteIfUnreferenced(@Param("filepath") String filepath);
+
+    // Recomputes reference counts from session_note; only rows that drifted are written
+    @Modifying
+    @Query(value = "UPDATE stored_file f JOIN (" +
+                   "  SELECT sf.content_hash, COUNT(n.note_id) AS cnt FROM stored_file sf " +
+                   "  LEFT JOIN session_note n ON n.filepath = sf.filepath GROUP BY sf.content_hash" +
+                   ") c ON c.content_hash = f.content_hash " +
+                   "SET f.ref_count = c.cnt WHERE f.ref_count <> c.cnt", nativeQuery = true)
+    int reconcileRefCounts();
+
+    // Uploads that were never linked to a note, or whose notes are all gone
+    @Query("SELECT f.filepath FROM StoredFile f WHERE f.refCount = 0 AND f.createdAt < :cutoff")
+    List<String> findUnreferencedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
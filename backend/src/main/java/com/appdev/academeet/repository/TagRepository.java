@@ -0,0 +1,42 @@
+package com.appdev.academeet.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.appdev.academeet.model.Tag;
+
+@Repository
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    Optional<Tag> findByName(String name);
+
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // Concurrent writers may intern the same name; the unique key makes the loser a no-op
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tag (name, usage_count, created_at) VALUES (:name, 0, NOW())", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+
+    @Modifying
+    @Query("UPDATE Tag t SET t.usageCount = t.usageCount + :delta WHERE t.id = :id AND t.usageCount + :delta >= 0")
+    int adjustUsageCount(@Param("id") Long id, @Param("delta") long delta);
+
+    // Recomputes usage counts from session_tag; only rows that drifted are written
+    @Modifying
+    @Query(value = "UPDATE tag t JOIN (" +
+                   "  SELECT tg.tag_id, COUNT(DISTINCT st.session_id) AS cnt FROM tag tg " +
+                   "  LEFT JOIN session_tag st ON st.tag_ref_id = tg.tag_id GROUP BY tg.tag_id" +
+                   ") c ON c.tag_id = t.tag_id " +
+                   "SET t.usage_count = c.cnt WHERE t.usage_count <> c.cnt", nativeQuery = true)
+    int reconcileUsageCounts();
+
+    @Query("SELECT t.id, t.name, t.usageCount FROM Tag t")
+    List<Object[]> findAllForIndex();
+}
@@ -0,0 +1,48 @@
+package com.appdev.academeet.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.appdev.academeet.model.SessionTrendingScore;
+
+/**
+ * Batched upserts for the trending score checkpoint. Rows not touched by the
+ * latest checkpoint belong to sessions that dropped out and are deleted.
+ */
+@Repository
+public class TrendingScoreRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO session_trending_score (session_id, score, checkpointed_at) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE score = VALUES(score), checkpointed_at = VALUES(checkpointed_at)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TrendingScoreRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<SessionTrendingScore> findAll() {
+        return jdbcTemplate.query("SELECT session_id, score, checkpointed_at FROM session_trending_score",
+                (rs, rowNum) -> new SessionTrendingScore(rs.getLong(1), rs.getDouble(2),
+                        rs.getTimestamp(3).toLocalDateTime()));
+    }
+
+    public void replaceAll(Map<Long, Double> scores, LocalDateTime checkpointedAt) {
+        Timestamp timestamp = Timestamp.valueOf(checkpointedAt);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new ArrayList<>(scores.entrySet()), BATCH_SIZE, (ps, entry) -> {
+            ps.setLong(1, entry.getKey());
+            ps.setDouble(2, entry.getValue());
+            ps.setTimestamp(3, timestamp);
+        });
+        jdbcTemplate.update("DELETE FROM session_trending_score WHERE checkpointed_at < ?", timestamp);
+    }
+}
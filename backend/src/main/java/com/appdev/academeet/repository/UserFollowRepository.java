@@ -1,6 +1,8 @@
 package com.appdev.academeet.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -33,8 +35,12 @@ public interface UserFollowRepository extends JpaRepository<UserFollow, UserFoll
 
     @Query("DELETE FROM UserFollow uf WHERE uf.id.followerId = :followerId AND uf.id.followingId = :followingId")
     @org.springframework.data.jpa.repository.Modifying
-    void deleteByFollowerIdAndFollowingId(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+    int deleteByFollowerIdAndFollowingId(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
 
     @Query("SELECT uf.following FROM UserFollow uf WHERE uf.id.followerId = :followerId")
     List<com.appdev.academeet.model.User> findFollowingByFollowerId(@Param("followerId") Long followerId);
+
+    // Which of the given users the follower already follows, in one query per page
+    @Query("SELECT uf.id.followingId FROM UserFollow uf WHERE uf.id.followerId = :followerId AND uf.id.followingId IN :userIds")
+    Set<Long> findFollowedIdsAmong(@Param("followerId") Long followerId, @Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
@@ -3,7 +3,10 @@ package com.appdev.academeet.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,7 +14,7 @@ import org.springframework.stereotype.Repository;
 import com.appdev.academeet.model.User;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     Optional<User> findByName(String name);
@@ -25,4 +28,57 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE " +
            "LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%'))" )
     List<User> searchByKeyword(@Param("keyword") String keyword);
+
+    @Modifying
+    @Query("UPDATE User u SET u.followerCount = u.followerCount + :delta WHERE u.id = :id AND u.followerCount + :delta >= 0")
+    int adjustFollowerCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE User u SET u.followingCount = u.followingCount + :delta WHERE u.id = :id AND u.followingCount + :delta >= 0")
+    int adjustFollowingCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Query("SELECT u.notificationsReadThrough FROM User u WHERE u.id = :id")
+    Long findNotificationsReadThrough(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.notificationsReadThrough = :notificationId WHERE u.id = :id")
+    int setNotificationsReadThrough(@Param("id") Long id, @Param("notificationId") Long notificationId);
+
+    @Modifying
+    @Query("UPDATE User u SET u.notificationsReadThrough = :notificationId WHERE u.id = :id AND u.notificationsReadThrough < :notificationId")
+    int advanceNotificationsReadThrough(@Param("id") Long id, @Param("notificationId") Long notificationId);
+
+    @Query("SELECT MAX(u.id) FROM User u")
+    Long findMaxId();
+
+    // Recomputes both counters from user_follow for an id range; repairs any drift
+    @Modifying
+    @Query("UPDATE User u SET " +
+           "u.followerCount = (SELECT COUNT(f) FROM UserFollow f WHERE f.id.followingId = u.id), " +
+           "u.followingCount = (SELECT COUNT(g) FROM UserFollow g WHERE g.id.followerId = u.id) " +
+           "WHERE u.id BETWEEN :fromId AND :toId")
+    int reconcileFollowCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Only sticks if the image has not been replaced while the thumbnail was being made
+    @Modifying
+    @Query("UPDATE User u SET u.profileThumbnailUrl = :thumbnailUrl WHERE u.id = :id AND u.profileImageUrl = :imageUrl")
+    int setProfileThumbnail(@Param("id") Long id, @Param("imageUrl") String imageUrl,
+                            @Param("thumbnailUrl") String thumbnailUrl);
+
+    @Modifying
+    @Query("UPDATE User u SET u.profileThumbnailUrl = NULL WHERE u.id = :id")
+    int clearProfileThumbnail(@Param("id") Long id);
+
+    // Rows still holding base64 data URLs from before images moved to disk
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId " +
+           "AND (u.profileImageUrl LIKE 'data:%' OR u.coverImageUrl LIKE 'data:%') ORDER BY u.id")
+    List<Long> findIdsWithInlineImagesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT u.id, u.profileImageUrl FROM User u " +
+           "WHERE u.profileImageUrl LIKE '/uploads/images/%' AND u.profileThumbnailUrl IS NULL")
+    List<Object[]> findMissingThumbnails();
+
+    // Projection used to build the in-memory search index (skips image columns)
+    @Query("SELECT u.id, u.name, u.program FROM User u")
+    List<Object[]> findSearchableFields();
 }
@@ -0,0 +1,65 @@
+package com.appdev.academeet.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.appdev.academeet.model.User;
+
+import jakarta.persistence.criteria.Path;
+
+/**
+ * Composable Criteria predicates for user search, so program and year
+ * filters run in SQL instead of over the whole user table.
+ */
+public class UserSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    // Order used by name-sorted and keyword-less user pages
+    public static final Sort BY_NAME = Sort.by("name", "id");
+
+    // Matches every user; the starting point for composing filters
+    public static Specification<User> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    // Case-insensitive; "All Programs" means no filter
+    public static Specification<User> hasProgram(String program) {
+        if (program == null || program.trim().isEmpty() || program.equalsIgnoreCase("All Programs")) {
+            return all();
+        }
+        String normalized = program.trim().toLowerCase();
+        return (root, query, cb) -> cb.equal(cb.lower(root.get("program")), normalized);
+    }
+
+    public static Specification<User> hasYearLevel(Integer yearLevel) {
+        if (yearLevel == null) {
+            return all();
+        }
+        return (root, query, cb) -> cb.equal(root.get("yearLevel"), yearLevel);
+    }
+
+    public static Specification<User> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<User> nameContains(String keyword) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")),
+                "%" + escapeLike(keyword.toLowerCase()) + "%", LIKE_ESCAPE);
+    }
+
+    // Keyset predicate for pages ordered by (name, id)
+    public static Specification<User> afterName(String name, Long id) {
+        return (root, query, cb) -> {
+            Path<String> namePath = root.get("name");
+            return cb.or(cb.greaterThan(namePath, name),
+                    cb.and(cb.equal(namePath, name), cb.greaterThan(root.get("id"), id)));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
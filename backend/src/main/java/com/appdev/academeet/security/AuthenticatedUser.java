@@ -0,0 +1,31 @@
+package com.appdev.academeet.security;
+
+import java.security.Principal;
+
+/**
+ * Principal built from verified JWT claims. Carries just enough identity for
+ * authorization checks; controllers load the full User only when they need it.
+ */
+public class AuthenticatedUser implements Principal {
+
+    private final Long id;
+    private final String email;
+
+    public AuthenticatedUser(Long id, String email) {
+        this.id = id;
+        this.email = email;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
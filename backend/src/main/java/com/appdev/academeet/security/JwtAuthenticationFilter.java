@@ -1,19 +1,25 @@
 package com.appdev.academeet.security;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.WebUtils;
 
+import com.appdev.academeet.repository.UserRepository;
+
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -29,7 +35,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private UserDetailsService userDetailsService;
+    private UserRepository userRepository;
+
+    // How long a confirmed user id is trusted before the account is checked again
+    @Value("${jwt.userCheckTtlMs:60000}")
+    private long userCheckTtlMs;
+
+    @Value("${jwt.verifiedCacheSize:10000}")
+    private int userCheckCacheSize;
+
+    // userId -> when the account was last seen to exist; bounded LRU like JwtUtil's token cache
+    private final Map<Long, Long> confirmedUsers = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > userCheckCacheSize;
+        }
+    };
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
@@ -43,7 +64,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         String token = null;
-        String email = null;
+        AuthenticatedUser principal = null;
 
         final String header = request.getHeader("Authorization");
         if (header != null && header.startsWith("Bearer ")) {
@@ -60,25 +81,51 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         if (token != null) {
-            try {
-                if (jwtUtil.validateToken(token)) {
-                    email = jwtUtil.getEmailFromToken(token);
-                    logger.debug("JWT Filter - Valid token for user: {}", email);
-                } else {
-                    logger.warn("JWT Filter - Invalid token");
-                }
-            } catch (Exception ex) {
-                logger.error("JWT Filter - Token validation failed: {}", ex.getMessage());
+            Optional<Claims> claims = jwtUtil.parseValidClaims(token);
+            if (claims.isEmpty()) {
+                logger.warn("JWT Filter - Invalid token");
+            } else if ("refresh".equals(claims.get().get("type", String.class))) {
+                // Refresh tokens are only good at /api/auth/refresh
+                logger.warn("JWT Filter - Refresh token presented as access token");
+            } else if (!userExists(claims.get().get("id", Long.class))) {
+                logger.warn("JWT Filter - Token for a user that no longer exists");
+            } else {
+                principal = new AuthenticatedUser(claims.get().get("id", Long.class), claims.get().getSubject());
+                logger.debug("JWT Filter - Valid token for user: {}", principal.getEmail());
             }
         }
 
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-            UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        // Principal comes from the signed claims; the account itself is re-checked at most once per userCheckTtlMs
+        if (principal != null && principal.getId() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(principal, null, List.of());
             auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(auth);
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private boolean userExists(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        Long checkedAt;
+        synchronized (confirmedUsers) {
+            checkedAt = confirmedUsers.get(userId);
+        }
+        if (checkedAt != null && now - checkedAt < userCheckTtlMs) {
+            return true;
+        }
+
+        boolean exists = userRepository.existsById(userId);
+        synchronized (confirmedUsers) {
+            if (exists) {
+                confirmedUsers.put(userId, now);
+            } else {
+                confirmedUsers.remove(userId);
+            }
+        }
+        return exists;
+    }
 }
@@ -1,7 +1,13 @@
 package com.appdev.academeet.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 import javax.crypto.SecretKey;
 
@@ -11,13 +17,13 @@ import org.springframework.stereotype.Component;
 import com.appdev.academeet.model.User;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
+
+import jakarta.annotation.PostConstruct;
 
 @Component
 public class JwtUtil {
@@ -31,9 +37,26 @@ public class JwtUtil {
     @Value("${jwt.refreshExpirationMs}")
     private Long jwtRefreshExpirationMs;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Base64.getDecoder().decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Value("${jwt.verifiedCacheSize:10000}")
+    private int verifiedCacheSize;
+
+    // Built once; both are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    // SHA-256(token) -> claims of a token whose signature has already been verified
+    private Map<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(jwtSecret));
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > verifiedCacheSize;
+            }
+        };
     }
 
     public String generateToken(User user) {
@@ -45,7 +68,7 @@ public class JwtUtil {
                 .claim("id", user.getId())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -59,39 +82,74 @@ public class JwtUtil {
                 .claim("type", "refresh")
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verifies the token once and returns its claims, or empty if the token is
+     * malformed, badly signed or expired. Recently verified tokens are served
+     * from a bounded LRU cache until their own expiry.
+     */
+    public Optional<Claims> parseValidClaims(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String key = hash(token);
+        Claims cached;
+        synchronized (verifiedTokens) {
+            cached = verifiedTokens.get(key);
+        }
+        if (cached != null) {
+            if (!isExpired(cached)) {
+                return Optional.of(cached);
+            }
+            synchronized (verifiedTokens) {
+                verifiedTokens.remove(key);
+            }
+            return Optional.empty();
+        }
+
+        Claims claims;
+        try {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+        synchronized (verifiedTokens) {
+            verifiedTokens.put(key, claims);
+        }
+        return Optional.of(claims);
+    }
+
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return parseValidClaims(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("id", Long.class);
+        return parseValidClaims(token)
+                .map(claims -> claims.get("id", Long.class))
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
     }
 
     public boolean validateToken(String authToken) {
+        return parseValidClaims(authToken).isPresent();
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+    }
+
+    private static String hash(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
-        } catch (SignatureException | MalformedJwtException | ExpiredJwtException | 
-                 UnsupportedJwtException | IllegalArgumentException ex) {
-            
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
-        return false;
     }
 }
@@ -15,18 +15,23 @@ import com.appdev.academeet.model.User;
 import com.appdev.academeet.repository.UserRepository;
 import com.appdev.academeet.security.JwtUtil;
 
+import io.jsonwebtoken.Claims;
+
 @Service
 public class AuthService {
     
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final SearchIndexService searchIndexService;
     
     @Autowired
-    public AuthService(UserRepository userRepository, BCryptPasswordEncoder passwordEncoder, JwtUtil jwtUtil) {
+    public AuthService(UserRepository userRepository, BCryptPasswordEncoder passwordEncoder, JwtUtil jwtUtil,
+                       SearchIndexService searchIndexService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
+        this.searchIndexService = searchIndexService;
     }
     
     public AuthResponse signup(SignupRequest request) {
@@ -42,6 +47,7 @@ public class AuthService {
         user.setYearLevel(request.getYearLevel());
         
         User savedUser = userRepository.save(user);
+        searchIndexService.indexUser(savedUser);
         
         String token = jwtUtil.generateToken(savedUser);
         String refreshToken = jwtUtil.generateRefreshToken(savedUser);
@@ -99,11 +105,9 @@ public class AuthService {
             throw new ValidationException("Refresh token is required");
         }
         
-        if (!jwtUtil.validateToken(refreshToken)) {
-            throw new UnauthorizedException("Invalid refresh token");
-        }
-        
-        String email = jwtUtil.getEmailFromToken(refreshToken);
+        String email = jwtUtil.parseValidClaims(refreshToken)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
         
         Optional<User> userOptional = userRepository.findByEmail(email);
         if (userOptional.isEmpty()) {
@@ -1,40 +1,57 @@
 package com.appdev.academeet.service;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.appdev.academeet.dto.CommentDTO;
+import com.appdev.academeet.dto.CursorPage;
 import com.appdev.academeet.dto.ReplyDTO;
+import com.appdev.academeet.event.CommentDeletedEvent;
+import com.appdev.academeet.event.CommentPostedEvent;
+import com.appdev.academeet.exception.ValidationException;
 import com.appdev.academeet.model.Comment;
 import com.appdev.academeet.model.Session;
 import com.appdev.academeet.model.User;
 import com.appdev.academeet.repository.CommentRepository;
 import com.appdev.academeet.repository.SessionRepository;
 import com.appdev.academeet.repository.UserRepository;
+import com.appdev.academeet.util.KeysetCursor;
 
 @Service
 public class CommentService {
 
+    private static final int DEFAULT_THREAD_PAGE_SIZE = 20;
+    private static final int DEFAULT_REPLY_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_REPLY_WINDOW = 3;
+    private static final int MAX_REPLY_WINDOW = 20;
+
     private final CommentRepository commentRepository;
     private final SessionRepository sessionRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public CommentService(CommentRepository commentRepository, 
                          SessionRepository sessionRepository,
                          UserRepository userRepository,
-                         NotificationService notificationService) {
+                         ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
         this.sessionRepository = sessionRepository;
         this.userRepository = userRepository;
-        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -65,85 +82,136 @@ public class CommentService {
 
         if (parentComment != null) {
             commentRepository.updateReplyCount(parentComment.getCommentId(), 1);
-            notificationService.notifyCommentReply(parentComment.getAuthor(), user, session);
-        } else {
-            notificationService.notifyCommentOnSession(user, session);
         }
+        eventPublisher.publishEvent(new CommentPostedEvent(saved.getCommentId(), sessionId, userId,
+                parentComment != null ? parentComment.getCommentId() : null));
 
         return saved;
     }
 
     @Transactional(readOnly = true)
     public List<CommentDTO> getSessionCommentsGrouped(Long sessionId) {
-        List<Comment> allComments = commentRepository.findBySessionIdOrderByCreatedAtAsc(sessionId);
-
-        Map<Long, CommentDTO> parentCommentsMap = new HashMap<>();
-        List<Long> parentIds = new ArrayList<>();
-
-        for (Comment comment : allComments) {
-            if (comment.getParentComment() == null) {
-                CommentDTO dto = new CommentDTO(
-                    comment.getCommentId(),
-                    comment.getAuthor().getId(),
-                    comment.getAuthor().getName(),
-                    comment.getAuthor().getProfileImageUrl(),
-                    comment.getContent(),
-                    comment.getCreatedAt(),
-                    comment.getReplyCount()
-                );
-                parentCommentsMap.put(comment.getCommentId(), dto);
-                parentIds.add(comment.getCommentId());
-            }
+        List<CommentDTO> threads = commentRepository.findThreads(sessionId, Pageable.unpaged());
+        if (threads.isEmpty()) {
+            return threads;
         }
 
         Map<Long, List<ReplyDTO>> repliesMap = new HashMap<>();
-        if (!parentIds.isEmpty()) {
-            List<Comment> replies = commentRepository.findByParentComment_CommentIdIn(parentIds);
-            for (Comment reply : replies) {
-                Long parentId = reply.getParentComment().getCommentId();
-                ReplyDTO replyDTO = new ReplyDTO(
-                    reply.getCommentId(),
-                    reply.getAuthor().getId(),
-                    reply.getAuthor().getName(),
-                    reply.getAuthor().getProfileImageUrl(),
-                    reply.getContent(),
-                    reply.getCreatedAt(),
-                    null,
-                    null
-                );
-                repliesMap.computeIfAbsent(parentId, k -> new ArrayList<>()).add(replyDTO);
-            }
+        List<Long> parentIds = threads.stream().map(CommentDTO::getCommentId).toList();
+        for (Object[] row : commentRepository.findFirstRepliesByParentIds(parentIds, Integer.MAX_VALUE)) {
+            repliesMap.computeIfAbsent(((Number) row[0]).longValue(), k -> new ArrayList<>()).add(toReplyDTO(row));
+        }
+        for (CommentDTO thread : threads) {
+            thread.setReplies(repliesMap.getOrDefault(thread.getCommentId(), new ArrayList<>()));
+        }
+        return threads;
+    }
+
+    /**
+     * One page of top-level comments, each with its first {@code replyWindow}
+     * replies and a cursor for the rest. Three statements per page regardless
+     * of thread size: threads, reply windows (ROW_NUMBER per parent), nothing lazy.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CommentDTO> getThreadPage(Long sessionId, String cursor, Integer size, Integer replyWindow) {
+        int limit = size == null ? DEFAULT_THREAD_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int window = replyWindow == null ? DEFAULT_REPLY_WINDOW : Math.max(0, Math.min(replyWindow, MAX_REPLY_WINDOW));
+
+        // Fetch one extra row to know whether another page exists
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<CommentDTO> threads;
+        if (cursor == null || cursor.isEmpty()) {
+            threads = commentRepository.findThreads(sessionId, page);
+        } else {
+            String[] parts = KeysetCursor.decode(cursor, 2);
+            threads = commentRepository.findThreadsAfter(sessionId, parseTime(parts[0]), parseId(parts[1]), page);
+        }
+
+        String nextCursor = null;
+        if (threads.size() > limit) {
+            threads = threads.subList(0, limit);
+            CommentDTO last = threads.get(limit - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getCommentId());
         }
 
-        List<CommentDTO> result = new ArrayList<>();
-        for (CommentDTO parentDTO : parentCommentsMap.values()) {
-            parentDTO.setReplies(repliesMap.getOrDefault(parentDTO.getCommentId(), new ArrayList<>()));
-            result.add(parentDTO);
+        if (window > 0 && !threads.isEmpty()) {
+            List<Long> parentIds = threads.stream()
+                    .filter(thread -> thread.getReplyCount() > 0)
+                    .map(CommentDTO::getCommentId)
+                    .toList();
+            Map<Long, List<ReplyDTO>> repliesMap = new HashMap<>();
+            if (!parentIds.isEmpty()) {
+                for (Object[] row : commentRepository.findFirstRepliesByParentIds(parentIds, window)) {
+                    repliesMap.computeIfAbsent(((Number) row[0]).longValue(), k -> new ArrayList<>()).add(toReplyDTO(row));
+                }
+            }
+            for (CommentDTO thread : threads) {
+                List<ReplyDTO> replies = repliesMap.getOrDefault(thread.getCommentId(), new ArrayList<>());
+                thread.setReplies(replies);
+                if (thread.getReplyCount() > replies.size() && !replies.isEmpty()) {
+                    ReplyDTO lastReply = replies.get(replies.size() - 1);
+                    thread.setRepliesCursor(KeysetCursor.encode(lastReply.getCreatedAt(), lastReply.getCommentId()));
+                }
+            }
         }
+        return new CursorPage<>(threads, nextCursor);
+    }
 
-        result.sort((a, b) -> a.getCreatedAt().compareTo(b.getCreatedAt()));
+    @Transactional(readOnly = true)
+    public CursorPage<ReplyDTO> getRepliesPage(Long commentId, String cursor, Integer size) {
+        int limit = size == null ? DEFAULT_REPLY_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<ReplyDTO> replies;
+        if (cursor == null || cursor.isEmpty()) {
+            replies = commentRepository.findReplies(commentId, page);
+        } else {
+            String[] parts = KeysetCursor.decode(cursor, 2);
+            replies = commentRepository.findRepliesAfter(commentId, parseTime(parts[0]), parseId(parts[1]), page);
+        }
 
-        return result;
+        String nextCursor = null;
+        if (replies.size() > limit) {
+            replies = replies.subList(0, limit);
+            ReplyDTO last = replies.get(limit - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getCommentId());
+        }
+        return new CursorPage<>(replies, nextCursor);
     }
 
     @Transactional(readOnly = true)
     public List<ReplyDTO> getReplies(Long commentId) {
-        List<Comment> replies = commentRepository.findByParentComment_CommentId(commentId);
-        List<ReplyDTO> dtoList = new ArrayList<>();
-        for (Comment reply : replies) {
-            ReplyDTO dto = new ReplyDTO(
-                reply.getCommentId(),
-                reply.getAuthor().getId(),
-                reply.getAuthor().getName(),
-                reply.getAuthor().getProfileImageUrl(),
-                reply.getContent(),
-                reply.getCreatedAt(),
-                null,
-                null
-            );
-            dtoList.add(dto);
+        return commentRepository.findReplies(commentId, Pageable.unpaged());
+    }
+
+    private static ReplyDTO toReplyDTO(Object[] row) {
+        Object createdAt = row[6];
+        return new ReplyDTO(
+            ((Number) row[1]).longValue(),
+            ((Number) row[2]).longValue(),
+            (String) row[3],
+            (String) row[4],
+            (String) row[5],
+            createdAt instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) createdAt,
+            null,
+            null
+        );
+    }
+
+    private static LocalDateTime parseTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ValidationException("Invalid cursor", e);
+        }
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid cursor", e);
         }
-        return dtoList;
     }
 
     @Transactional
@@ -162,6 +230,8 @@ public class CommentService {
         } else {
             commentRepository.delete(comment);
         }
+        eventPublisher.publishEvent(new CommentDeletedEvent(commentId, comment.getSession().getId(),
+                parent != null ? parent.getCommentId() : null));
     }
 
     @Transactional
@@ -171,7 +241,7 @@ public class CommentService {
             saved.getCommentId(),
             saved.getAuthor().getId(),
             saved.getAuthor().getName(),
-            saved.getAuthor().getProfileImageUrl(),
+            saved.getAuthor().getAvatarUrl(),
             saved.getContent(),
             saved.getCreatedAt(),
             saved.getReplyCount()
@@ -185,7 +255,7 @@ public class CommentService {
             saved.getCommentId(),
             saved.getAuthor().getId(),
             saved.getAuthor().getName(),
-            saved.getAuthor().getProfileImageUrl(),
+            saved.getAuthor().getAvatarUrl(),
             saved.getContent(),
             saved.getCreatedAt(),
             null,
@@ -0,0 +1,292 @@
+package com.appdev.academeet.service;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.appdev.academeet.dto.CommentDTO;
+import com.appdev.academeet.dto.CommentStreamEventDTO;
+import com.appdev.academeet.dto.ReplyDTO;
+import com.appdev.academeet.event.CommentDeletedEvent;
+import com.appdev.academeet.event.CommentPostedEvent;
+import com.appdev.academeet.repository.CommentRepository;
+import com.appdev.academeet.util.ReplayBuffer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Live comment feed per session over Server-Sent Events.
+ *
+ * Each session with viewers has a channel that numbers its events and keeps
+ * the last few in a ring buffer. An event is serialized once and the same
+ * JSON is written to every viewer. Event ids are "epoch-seq", where the
+ * epoch names one channel instance (server generation plus a counter), so
+ * numbering that restarts after an idle channel is retired or the server
+ * restarts is never mistaken for the old one. A client reconnecting with
+ * Last-Event-ID gets the events it missed, or a "resync" event when they are
+ * no longer buffered (or came from another epoch) and it should reload the
+ * thread page instead.
+ *
+ * Listeners run on the event executor. The channel lock only covers
+ * numbering, buffering and queueing onto each connection; sockets are
+ * written after it is released, so a slow viewer never blocks the channel.
+ * Each connection drains its own queue in order, so events still arrive in
+ * seq order.
+ */
+@Service
+public class CommentStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentStreamService.class);
+
+    private static final int REPLAY_BUFFER = 256;
+
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final long timeoutMs;
+    private final long idleRetentionMs;
+    // Distinguishes sequence numbers issued before a restart
+    private final long generation;
+    // Numbers channel instances within this generation
+    private final AtomicLong channelCounter = new AtomicLong();
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    public CommentStreamService(CommentRepository commentRepository,
+                                ObjectMapper objectMapper,
+                                Clock clock,
+                                @Value("${academeet.stream.timeout-ms:1800000}") long timeoutMs,
+                                @Value("${academeet.comments.stream.idle-retention-ms:300000}") long idleRetentionMs) {
+        this.commentRepository = commentRepository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.timeoutMs = timeoutMs;
+        this.idleRetentionMs = idleRetentionMs;
+        this.generation = clock.millis();
+    }
+
+    public SseEmitter subscribe(Long sessionId, String lastEventId) {
+        Connection connection = new Connection(new SseEmitter(timeoutMs));
+        Channel channel;
+        while (true) {
+            channel = channels.computeIfAbsent(sessionId, id -> new Channel(generation + "." + channelCounter.incrementAndGet()));
+            // Registering and queueing the replay under the channel lock keeps a concurrent publish from interleaving
+            synchronized (channel) {
+                if (channels.get(sessionId) != channel) {
+                    // Retired by the heartbeat between lookup and lock
+                    continue;
+                }
+                channel.connections.add(connection);
+                if (lastEventId != null && !lastEventId.isEmpty()) {
+                    List<Buffered> missed = channel.events.since(parseSeq(channel, lastEventId));
+                    if (missed == null) {
+                        connection.offer(resyncEvent(channel));
+                    } else {
+                        for (Buffered event : missed) {
+                            connection.offer(event.toSse());
+                        }
+                    }
+                }
+                break;
+            }
+        }
+        flush(sessionId, channel, connection);
+
+        Channel subscribed = channel;
+        connection.emitter.onCompletion(() -> subscribed.connections.remove(connection));
+        connection.emitter.onTimeout(() -> subscribed.connections.remove(connection));
+        connection.emitter.onError(e -> subscribed.connections.remove(connection));
+        return connection.emitter;
+    }
+
+    @Async("eventExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentPosted(CommentPostedEvent event) {
+        Channel channel = channels.get(event.getSessionId());
+        if (channel == null) {
+            return;
+        }
+        boolean reply = event.getParentCommentId() != null;
+        CommentDTO comment = reply ? null : commentRepository.findThreadById(event.getCommentId()).orElse(null);
+        ReplyDTO replyDTO = reply ? commentRepository.findReplyById(event.getCommentId()).orElse(null) : null;
+        if (comment == null && replyDTO == null) {
+            // Deleted again before we got here; the delete event follows
+            return;
+        }
+        publish(event.getSessionId(), channel, reply ? "reply-created" : "comment-created",
+                event.getCommentId(), event.getParentCommentId(), comment, replyDTO);
+    }
+
+    @Async("eventExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        Channel channel = channels.get(event.getSessionId());
+        if (channel != null) {
+            publish(event.getSessionId(), channel,
+                    event.getParentCommentId() != null ? "reply-deleted" : "comment-deleted",
+                    event.getCommentId(), event.getParentCommentId(), null, null);
+        }
+    }
+
+    // Keeps proxies from closing idle connections and drops channels nobody has watched for a while
+    @Scheduled(fixedRateString = "${academeet.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        long now = clock.millis();
+        channels.forEach((sessionId, channel) -> {
+            List<Connection> targets;
+            synchronized (channel) {
+                targets = new ArrayList<>(channel.connections);
+                for (Connection connection : targets) {
+                    connection.offer(SseEmitter.event().comment("heartbeat"));
+                }
+                if (!targets.isEmpty()) {
+                    channel.idleSince = 0;
+                } else if (channel.idleSince == 0) {
+                    channel.idleSince = now;
+                } else if (now - channel.idleSince > idleRetentionMs) {
+                    channels.remove(sessionId, channel);
+                }
+            }
+            for (Connection connection : targets) {
+                flush(sessionId, channel, connection);
+            }
+        });
+    }
+
+    private void publish(Long sessionId, Channel channel, String type, Long commentId, Long parentCommentId,
+                         CommentDTO comment, ReplyDTO reply) {
+        boolean created = comment != null || reply != null;
+        List<Connection> targets;
+        synchronized (channel) {
+            // Listeners run concurrently, so a delete can overtake the create it follows
+            if (created && channel.events.contains(event -> event.isDeleteOf(commentId))) {
+                return;
+            }
+            long seq = channel.events.nextSeq();
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(
+                        new CommentStreamEventDTO(seq, type, sessionId, commentId, parentCommentId, comment, reply));
+            } catch (JsonProcessingException e) {
+                logger.warn("Could not serialize {} event for comment {}", type, commentId, e);
+                return;
+            }
+            Buffered event = new Buffered(channel.epoch + "-" + seq, type, commentId, !created, json);
+            channel.events.append(event);
+            targets = new ArrayList<>(channel.connections);
+            for (Connection connection : targets) {
+                connection.offer(event.toSse());
+            }
+        }
+        for (Connection connection : targets) {
+            flush(sessionId, channel, connection);
+        }
+    }
+
+    // Returns -1 for ids from another channel epoch or that do not parse, which forces a resync
+    private static long parseSeq(Channel channel, String lastEventId) {
+        int dash = lastEventId.lastIndexOf('-');
+        try {
+            if (dash < 0 || !lastEventId.substring(0, dash).equals(channel.epoch)) {
+                return -1;
+            }
+            return Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder resyncEvent(Channel channel) {
+        long lastSeq = channel.events.lastSeq();
+        return SseEmitter.event()
+                .id(channel.epoch + "-" + lastSeq)
+                .name("resync")
+                .data(Map.of("seq", lastSeq));
+    }
+
+    // Called outside the channel lock
+    private void flush(Long sessionId, Channel channel, Connection connection) {
+        try {
+            connection.flush();
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Dropping comment stream for session {}: {}", sessionId, e.getMessage());
+            channel.connections.remove(connection);
+            connection.emitter.completeWithError(e);
+        }
+    }
+
+    private static final class Buffered {
+        private final String id;
+        private final String name;
+        private final Long commentId;
+        private final boolean delete;
+        private final String json;
+
+        private Buffered(String id, String name, Long commentId, boolean delete, String json) {
+            this.id = id;
+            this.name = name;
+            this.commentId = commentId;
+            this.delete = delete;
+            this.json = json;
+        }
+
+        private boolean isDeleteOf(Long comment) {
+            return delete && commentId.equals(comment);
+        }
+
+        // Event builders are single-use; the payload string is shared
+        private SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event().id(id).name(name).data(json);
+        }
+    }
+
+    private static final class Channel {
+        private final String epoch;
+        private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+        // Guarded by this
+        private final ReplayBuffer<Buffered> events = new ReplayBuffer<>(REPLAY_BUFFER);
+        private long idleSince;
+
+        private Channel(String epoch) {
+            this.epoch = epoch;
+        }
+    }
+
+    // SseEmitter is not safe for concurrent sends
+    private static final class Connection {
+        private final SseEmitter emitter;
+        // Filled under the channel lock, so events queue in seq order; drained by whichever thread flushes first
+        private final Queue<SseEmitter.SseEventBuilder> outbox = new ConcurrentLinkedQueue<>();
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            outbox.add(event);
+        }
+
+        private synchronized void flush() throws IOException {
+            SseEmitter.SseEventBuilder event;
+            while ((event = outbox.poll()) != null) {
+                emitter.send(event);
+            }
+        }
+    }
+}
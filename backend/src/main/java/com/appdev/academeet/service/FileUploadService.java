@@ -1,19 +1,73 @@
 package com.appdev.academeet.service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.appdev.academeet.exception.ValidationException;
+import com.appdev.academeet.model.StoredFile;
+import com.appdev.academeet.repository.StoredFileRepository;
+import com.appdev.academeet.util.TransactionUtils;
+
+/**
+ * Note uploads are content-addressed: the body is streamed through a direct
+ * buffer into a temp file while its SHA-256 is computed, then stored once as
+ * uploads/notes/&lt;sha256&gt;.&lt;ext&gt;. Identical uploads share that file;
+ * stored_file.ref_count tracks how many session notes link it, and
+ * {@link #deleteFile} only removes the bytes when the last reference goes.
+ * Writing and removing the bytes of one hash is serialized in-process, and a
+ * purge only deletes them while no row for the hash exists, so a re-upload
+ * racing the cleanup job never ends up pointing at a missing file.
+ */
 @Service
 public class FileUploadService {
 
     private static final String NOTES_UPLOAD_DIR = "uploads/notes";
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("^/uploads/notes/[0-9a-f]{64}(\\.[a-z0-9]+)?$");
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+    private static final int FILE_LOCK_STRIPES = 64;
+
+    private final StoredFileRepository storedFileRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate freshReadTemplate;
+    private final long maxNoteBytes;
+    private final Object[] fileLocks = new Object[FILE_LOCK_STRIPES];
+
+    public FileUploadService(StoredFileRepository storedFileRepository,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${spring.servlet.multipart.max-file-size:10MB}") DataSize maxNoteSize) {
+        this.storedFileRepository = storedFileRepository;
+        this.transactionTemplate = transactionTemplate;
+        // Purges re-check the row from an afterCommit callback, where the finished transaction is still bound
+        this.freshReadTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.freshReadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.freshReadTemplate.setReadOnly(true);
+        this.maxNoteBytes = maxNoteSize.toBytes();
+        for (int i = 0; i < FILE_LOCK_STRIPES; i++) {
+            fileLocks[i] = new Object();
+        }
+    }
 
     public String uploadFile(MultipartFile file, String directory) throws IOException {
         if (file == null || file.isEmpty()) {
@@ -66,10 +120,140 @@ public class FileUploadService {
     }
 
     public String uploadNoteFile(MultipartFile file) throws IOException {
-        return uploadFile(file, NOTES_UPLOAD_DIR);
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("File is empty");
+        }
+        try (InputStream content = file.getInputStream()) {
+            return storeNote(content, file.getOriginalFilename());
+        }
+    }
+
+    /**
+     * Streams a note into content-addressed storage and returns its public
+     * path. The stream is read once; nothing is buffered in memory beyond
+     * the copy buffer. The stored file starts unreferenced until a note links it.
+     */
+    public String storeNote(InputStream content, String originalFilename) throws IOException {
+        String extension = noteExtension(originalFilename);
+
+        Path uploadPath = Paths.get(NOTES_UPLOAD_DIR).normalize().toAbsolutePath();
+        Files.createDirectories(uploadPath);
+        Path temp = Files.createTempFile(uploadPath, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+            try (ReadableByteChannel source = Channels.newChannel(content);
+                 FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(COPY_BUFFER_BYTES);
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    if (size > maxNoteBytes) {
+                        throw new ValidationException("File exceeds the maximum upload size");
+                    }
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        target.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+            if (size == 0) {
+                throw new IllegalArgumentException("File is empty");
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            long storedSize = size;
+            String filepath = transactionTemplate.execute(status -> {
+                storedFileRepository.insertOrTouch(hash, "/" + NOTES_UPLOAD_DIR + "/" + hash + extension, storedSize);
+                return storedFileRepository.findById(hash).map(StoredFile::getFilepath).orElseThrow();
+            });
+
+            // Same hash, same bytes: always put ours in place, after the row commits, so a purge
+            // that saw the row gone cannot leave it pointing at nothing
+            Path stored = uploadPath.resolve(filepath.substring(filepath.lastIndexOf('/') + 1));
+            synchronized (fileLock(filepath)) {
+                Files.move(temp, stored, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return filepath;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Called when a note links a path; legacy (non content-addressed) paths are not counted
+    @Transactional
+    public void acquire(String filepath) {
+        if (isContentAddressed(filepath) && storedFileRepository.acquire(filepath) == 0) {
+            throw new ValidationException("Uploaded file is no longer available");
+        }
     }
 
+    /**
+     * Releases one reference to a content-addressed note, deleting the file
+     * once nothing links it; other paths are deleted outright. Returns true
+     * when the bytes were (or will be, on commit) removed.
+     */
+    @Transactional
     public boolean deleteFile(String relativePath) {
+        if (isContentAddressed(relativePath)) {
+            if (storedFileRepository.release(relativePath) == 0) {
+                return false;
+            }
+            return purgeIfUnreferenced(relativePath);
+        }
+        return deletePhysical(relativePath);
+    }
+
+    // Drops an unreferenced content-addressed file; the bytes go once the row delete commits
+    @Transactional
+    public boolean purgeIfUnreferenced(String filepath) {
+        if (storedFileRepository.deleteIfUnreferenced(filepath) == 0) {
+            return false;
+        }
+        TransactionUtils.afterCommit(() -> {
+            synchronized (fileLock(filepath)) {
+                // A re-upload may have recreated the row since our delete committed; its bytes stay
+                Boolean recreated = freshReadTemplate.execute(status -> storedFileRepository.findByFilepath(filepath).isPresent());
+                if (!Boolean.TRUE.equals(recreated)) {
+                    deletePhysical(filepath);
+                }
+            }
+        });
+        return true;
+    }
+
+    private Object fileLock(String filepath) {
+        return fileLocks[Math.floorMod(filepath.hashCode(), FILE_LOCK_STRIPES)];
+    }
+
+    private boolean isContentAddressed(String filepath) {
+        return filepath != null && CONTENT_ADDRESSED.matcher(filepath).matches();
+    }
+
+    private String noteExtension(String originalFilename) {
+        if (originalFilename != null && originalFilename.contains("..")) {
+            throw new IllegalArgumentException("Invalid filename");
+        }
+        if (originalFilename == null || !originalFilename.contains(".")) {
+            return "";
+        }
+        String extension = originalFilename.substring(originalFilename.lastIndexOf(".")).toLowerCase();
+        if (!isAllowedExtension(extension)) {
+            throw new IllegalArgumentException("File type not allowed");
+        }
+        return extension;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private boolean deletePhysical(String relativePath) {
         try {
             if (relativePath == null || relativePath.trim().isEmpty()) {
                 return false;
@@ -0,0 +1,57 @@
+package com.appdev.academeet.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.appdev.academeet.repository.UserRepository;
+
+/**
+ * Backfills and periodically repairs the denormalized follower/following
+ * counters on User from user_follow, one id range per transaction.
+ */
+@Component
+public class FollowCountReconciliationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(FollowCountReconciliationJob.class);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public FollowCountReconciliationJob(UserRepository userRepository,
+                                        TransactionTemplate transactionTemplate,
+                                        @Value("${academeet.follow-counters.chunk-size:1000}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${academeet.follow-counters.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        Long maxId = userRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        int updated = 0;
+        for (long start = 1; start <= maxId; start += chunkSize) {
+            long fromId = start;
+            long toId = start + chunkSize - 1;
+            Integer rows = transactionTemplate.execute(status -> userRepository.reconcileFollowCounts(fromId, toId));
+            updated += rows != null ? rows : 0;
+        }
+        logger.info("Follow counters reconciled for {} users in {} ms", updated, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,106 @@
+package com.appdev.academeet.service;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.appdev.academeet.exception.ValidationException;
+import com.appdev.academeet.model.User;
+import com.appdev.academeet.repository.UserRepository;
+
+/**
+ * Moves base64 images still stored inline on user rows out to disk, and
+ * queues thumbnails for stored profile images that do not have one yet.
+ * Runs once at startup on the image pool; each user is its own transaction.
+ */
+@Component
+public class ImageMigrationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageMigrationJob.class);
+
+    private static final int BATCH_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final ImageUploadService imageUploadService;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor imageExecutor;
+
+    public ImageMigrationJob(UserRepository userRepository,
+                             ImageUploadService imageUploadService,
+                             TransactionTemplate transactionTemplate,
+                             @Qualifier("imageExecutor") Executor imageExecutor) {
+        this.userRepository = userRepository;
+        this.imageUploadService = imageUploadService;
+        this.transactionTemplate = transactionTemplate;
+        this.imageExecutor = imageExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        imageExecutor.execute(this::migrate);
+    }
+
+    private void migrate() {
+        int migrated = 0;
+        long afterId = 0L;
+        List<Long> ids;
+        do {
+            ids = userRepository.findIdsWithInlineImagesAfter(afterId, PageRequest.of(0, BATCH_SIZE));
+            for (Long id : ids) {
+                if (migrateUser(id)) {
+                    migrated++;
+                }
+                afterId = id;
+            }
+        } while (ids.size() == BATCH_SIZE);
+
+        List<Object[]> missing = userRepository.findMissingThumbnails();
+        for (Object[] row : missing) {
+            imageUploadService.generateProfileThumbnail((Long) row[0], (String) row[1]);
+        }
+        if (migrated + missing.size() > 0) {
+            logger.info("Image migration: {} users moved to file storage, {} thumbnails queued", migrated, missing.size());
+        }
+    }
+
+    private boolean migrateUser(Long userId) {
+        String[] profile = new String[1];
+        Boolean changed = transactionTemplate.execute(status -> {
+            User user = userRepository.findById(userId).orElse(null);
+            if (user == null) {
+                return false;
+            }
+            if (imageUploadService.isDataUrl(user.getProfileImageUrl())) {
+                user.setProfileImageUrl(storeOrDrop(userId, user.getProfileImageUrl()));
+                userRepository.clearProfileThumbnail(userId);
+                profile[0] = user.getProfileImageUrl();
+            }
+            if (imageUploadService.isDataUrl(user.getCoverImageUrl())) {
+                user.setCoverImageUrl(storeOrDrop(userId, user.getCoverImageUrl()));
+            }
+            return true;
+        });
+        if (profile[0] != null) {
+            imageUploadService.generateProfileThumbnail(userId, profile[0]);
+        }
+        return Boolean.TRUE.equals(changed);
+    }
+
+    // An undecodable image is dropped rather than left inline, or every login would keep hauling it
+    private String storeOrDrop(Long userId, String dataUrl) {
+        try {
+            return imageUploadService.storeDataUrl(dataUrl);
+        } catch (ValidationException e) {
+            logger.warn("Dropping unreadable inline image for user {}: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.appdev.academeet.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.appdev.academeet.exception.ValidationException;
+import com.appdev.academeet.repository.UserRepository;
+import com.appdev.academeet.util.TransactionUtils;
+
+/**
+ * Stores profile and cover images as files under uploads/images and keeps
+ * only their short URL in the database. Profile thumbnails are rendered on
+ * the image pool and attached to the user once written. A file stored inside
+ * a transaction is deleted again if that transaction rolls back, since no
+ * row will ever point at it.
+ */
+@Service
+public class ImageUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageUploadService.class);
+
+    private static final String IMAGES_DIR = "uploads/images";
+    private static final String THUMBNAILS_DIR = "uploads/images/thumbs";
+    private static final String IMAGES_URL_PREFIX = "/" + IMAGES_DIR + "/";
+    private static final int THUMBNAIL_SIZE = 128;
+    private static final long MAX_IMAGE_BYTES = 10L * 1024 * 1024;
+    private static final long MAX_IMAGE_PIXELS = 40_000_000L;
+    private static final Map<String, String> EXTENSIONS = Map.of("png", ".png", "jpeg", ".jpg", "gif", ".gif");
+
+    private final UserRepository userRepository;
+    private final FileUploadService fileUploadService;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor imageExecutor;
+
+    public ImageUploadService(UserRepository userRepository,
+                              FileUploadService fileUploadService,
+                              TransactionTemplate transactionTemplate,
+                              @Qualifier("imageExecutor") Executor imageExecutor) {
+        this.userRepository = userRepository;
+        this.fileUploadService = fileUploadService;
+        this.transactionTemplate = transactionTemplate;
+        this.imageExecutor = imageExecutor;
+    }
+
+    public String storeImage(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new ValidationException("Image file is empty");
+        }
+        if (file.getSize() > MAX_IMAGE_BYTES) {
+            throw new ValidationException("Image is too large");
+        }
+        try {
+            return store(file.getBytes());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store image", e);
+        }
+    }
+
+    // Accepts the base64 data URLs the profile form has always sent
+    public String storeDataUrl(String dataUrl) {
+        int comma = dataUrl.indexOf(',');
+        if (!isDataUrl(dataUrl) || comma < 0 || !dataUrl.substring(0, comma).endsWith(";base64")) {
+            throw new ValidationException("Invalid image data");
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getMimeDecoder().decode(dataUrl.substring(comma + 1));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid image data", e);
+        }
+        if (bytes.length > MAX_IMAGE_BYTES) {
+            throw new ValidationException("Image is too large");
+        }
+        try {
+            return store(bytes);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store image", e);
+        }
+    }
+
+    public boolean isDataUrl(String value) {
+        return value != null && value.regionMatches(true, 0, "data:image/", 0, 11);
+    }
+
+    public boolean isStoredImage(String url) {
+        return url != null && url.startsWith(IMAGES_URL_PREFIX) && !url.contains("..");
+    }
+
+    // Renders the thumbnail off-thread; a no-op for images this service did not store
+    public void generateProfileThumbnail(Long userId, String imageUrl) {
+        if (!isStoredImage(imageUrl)) {
+            return;
+        }
+        imageExecutor.execute(() -> {
+            String thumbnailUrl = thumbnailUrlFor(imageUrl);
+            try {
+                writeThumbnail(Paths.get(imageUrl.substring(1)), Paths.get(thumbnailUrl.substring(1)));
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Thumbnail generation failed for {}: {}", imageUrl, e.getMessage());
+                return;
+            }
+            Integer updated = transactionTemplate.execute(status ->
+                    userRepository.setProfileThumbnail(userId, imageUrl, thumbnailUrl));
+            if (updated == null || updated == 0) {
+                // Replaced while we were rendering
+                fileUploadService.deleteFile(thumbnailUrl);
+            }
+        });
+    }
+
+    public void deleteImage(String url) {
+        if (isStoredImage(url)) {
+            fileUploadService.deleteFile(url);
+            fileUploadService.deleteFile(thumbnailUrlFor(url));
+        }
+    }
+
+    private String store(byte[] bytes) throws IOException {
+        String extension = EXTENSIONS.get(detectFormat(bytes));
+        if (extension == null) {
+            throw new ValidationException("Only PNG, JPEG and GIF images are allowed");
+        }
+
+        Path directory = Paths.get(IMAGES_DIR).toAbsolutePath().normalize();
+        Files.createDirectories(directory);
+        String filename = UUID.randomUUID() + extension;
+        Path target = directory.resolve(filename);
+        Path temp = Files.createTempFile(directory, "upload-", ".tmp");
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        String url = IMAGES_URL_PREFIX + filename;
+        TransactionUtils.afterRollback(() -> deleteImage(url));
+        return url;
+    }
+
+    // Sniffs the real format and checks dimensions from the header, before anything is decoded
+    private String detectFormat(byte[] bytes) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new ValidationException("File is not a supported image");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_IMAGE_PIXELS) {
+                    throw new ValidationException("Image dimensions are too large");
+                }
+                return reader.getFormatName().toLowerCase(Locale.ROOT);
+            } catch (IOException e) {
+                throw new ValidationException("File is not a supported image", e);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private String thumbnailUrlFor(String imageUrl) {
+        String name = imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
+        int dot = name.lastIndexOf('.');
+        return "/" + THUMBNAILS_DIR + "/" + (dot > 0 ? name.substring(0, dot) : name) + ".png";
+    }
+
+    private void writeThumbnail(Path source, Path target) throws IOException {
+        BufferedImage image = ImageIO.read(source.toFile());
+        if (image == null) {
+            throw new IOException("Unreadable image");
+        }
+
+        // Halve until close to the target so bilinear sampling does not alias
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = Math.min(1.0, (double) THUMBNAIL_SIZE / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            image = resize(image, width, height);
+        } while (width != targetWidth || height != targetHeight);
+
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "thumb-", ".tmp");
+        try {
+            ImageIO.write(image, "png", temp.toFile());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+}
@@ -0,0 +1,165 @@
+package com.appdev.academeet.service;
+
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.appdev.academeet.event.CommentPostedEvent;
+import com.appdev.academeet.event.NotesUploadedEvent;
+import com.appdev.academeet.event.SessionCanceledEvent;
+import com.appdev.academeet.event.SessionJoinedEvent;
+import com.appdev.academeet.event.SessionUpdatedEvent;
+import com.appdev.academeet.model.Comment;
+import com.appdev.academeet.model.Session;
+import com.appdev.academeet.model.SessionParticipant;
+import com.appdev.academeet.model.User;
+import com.appdev.academeet.repository.CommentRepository;
+import com.appdev.academeet.repository.SessionParticipantRepository;
+import com.appdev.academeet.repository.SessionRepository;
+import com.appdev.academeet.repository.UserRepository;
+
+/**
+ * Notification side effects of session, comment and note writes. Events are
+ * delivered after the publishing transaction commits and handled on the
+ * bounded event executor; each handler runs in its own transaction and is
+ * retried with backoff when the failure is transient (deadlock, lock
+ * timeout, dropped connection). Anything else is logged and dropped.
+ */
+@Component
+public class NotificationEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationEventListener.class);
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF_MS = 200;
+
+    private final NotificationService notificationService;
+    private final SessionRepository sessionRepository;
+    private final SessionParticipantRepository sessionParticipantRepository;
+    private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public NotificationEventListener(NotificationService notificationService,
+                                     SessionRepository sessionRepository,
+                                     SessionParticipantRepository sessionParticipantRepository,
+                                     UserRepository userRepository,
+                                     CommentRepository commentRepository,
+                                     TransactionTemplate transactionTemplate) {
+        this.notificationService = notificationService;
+        this.sessionRepository = sessionRepository;
+        this.sessionParticipantRepository = sessionParticipantRepository;
+        this.userRepository = userRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Async("eventExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionJoined(SessionJoinedEvent event) {
+        handle("SessionJoined", status -> {
+            // The user may cancel at any point; holding the participant row lock until our commit means
+            // cancelJoinSession deletes these reminders after us rather than racing past them
+            if (sessionParticipantRepository.lockBySessionIdAndUserId(event.getSessionId(), event.getUserId()).isEmpty()) {
+                return;
+            }
+            Session session = findSession(event.getSessionId());
+            User user = findUser(event.getUserId());
+            notificationService.createRemindersForSession(user, session);
+            if (event.isFromWaitlist()) {
+                notificationService.notifyWaitlistPromoted(user, session);
+            } else {
+                notificationService.notifyJoinConfirmation(user, session);
+            }
+            notificationService.notifyParticipantJoined(user, session);
+        });
+    }
+
+    @Async("eventExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionUpdated(SessionUpdatedEvent event) {
+        handle("SessionUpdated", status -> {
+            Session session = findSession(event.getSessionId());
+            if (event.isStartTimeChanged()) {
+                // Reminder times and messages depend on the start time, so rebuild them
+                notificationService.deleteRemindersForSession(session.getId());
+                for (SessionParticipant participant : sessionParticipantRepository.findBySessionId(session.getId())) {
+                    notificationService.createRemindersForSession(participant.getUser(), session);
+                }
+            }
+            notificationService.notifySessionUpdated(session);
+        });
+    }
+
+    @Async("eventExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionCanceled(SessionCanceledEvent event) {
+        handle("SessionCanceled", status -> notificationService.notifySessionCanceled(findSession(event.getSessionId())));
+    }
+
+    @Async("eventExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentPosted(CommentPostedEvent event) {
+        handle("CommentPosted", status -> {
+            Session session = findSession(event.getSessionId());
+            User author = findUser(event.getAuthorId());
+            if (event.getParentCommentId() != null) {
+                Comment parent = commentRepository.findById(event.getParentCommentId())
+                        .orElseThrow(() -> new RuntimeException("Parent comment not found"));
+                notificationService.notifyCommentReply(parent.getAuthor(), author, session);
+            } else {
+                notificationService.notifyCommentOnSession(author, session);
+            }
+        });
+    }
+
+    @Async("eventExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotesUploaded(NotesUploadedEvent event) {
+        handle("NotesUploaded", status -> notificationService.notifyNotesUploaded(findSession(event.getSessionId())));
+    }
+
+    private void handle(String eventName, Consumer<TransactionStatus> handler) {
+        long backoff = INITIAL_BACKOFF_MS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(handler);
+                return;
+            } catch (TransientDataAccessException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    logger.error("{} handler failed after {} attempts: {}", eventName, attempt, e.getMessage(), e);
+                    return;
+                }
+                logger.warn("{} handler failed (attempt {}), retrying in {} ms: {}", eventName, attempt, backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff *= 2;
+            } catch (RuntimeException e) {
+                // Missing rows and bad input fail the same way on every attempt
+                logger.error("{} handler failed: {}", eventName, e.getMessage(), e);
+                return;
+            }
+        }
+    }
+
+    private Session findSession(Long sessionId) {
+        return sessionRepository.findById(sessionId)
+                .orElseThrow(() -> new RuntimeException("Session not found"));
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.appdev.academeet.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.appdev.academeet.model.NotificationType;
+import com.appdev.academeet.repository.NotificationBatchRepository;
+import com.appdev.academeet.repository.SessionParticipantRepository;
+import com.appdev.academeet.util.TransactionUtils;
+
+/**
+ * Delivers one notification to every participant of a session. Work is
+ * deferred until the caller's transaction commits and then runs on the
+ * bounded notification executor, so the request does not scale with the
+ * number of participants.
+ */
+@Service
+public class NotificationFanoutService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationFanoutService.class);
+
+    private final SessionParticipantRepository sessionParticipantRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final Executor notificationExecutor;
+    private final NotificationStreamService notificationStreamService;
+    private final Clock clock;
+
+    public NotificationFanoutService(SessionParticipantRepository sessionParticipantRepository,
+                                     NotificationBatchRepository notificationBatchRepository,
+                                     @Qualifier("notificationExecutor") Executor notificationExecutor,
+                                     NotificationStreamService notificationStreamService,
+                                     Clock clock) {
+        this.sessionParticipantRepository = sessionParticipantRepository;
+        this.notificationBatchRepository = notificationBatchRepository;
+        this.notificationExecutor = notificationExecutor;
+        this.notificationStreamService = notificationStreamService;
+        this.clock = clock;
+    }
+
+    public void notifyParticipants(Long sessionId, Long excludedUserId, NotificationType type, String message) {
+        TransactionUtils.afterCommit(() -> notificationExecutor.execute(() -> deliver(sessionId, excludedUserId, type, message)));
+    }
+
+    private void deliver(Long sessionId, Long excludedUserId, NotificationType type, String message) {
+        try {
+            List<Long> recipientIds = sessionParticipantRepository.findParticipantIdsBySessionId(sessionId).stream()
+                    .filter(id -> !id.equals(excludedUserId))
+                    .toList();
+            if (recipientIds.isEmpty()) {
+                return;
+            }
+            // Truncated to what the DATETIME column stores, so the pushed copy matches a later reload
+            LocalDateTime createdAt = LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS);
+            List<Long> notificationIds = notificationBatchRepository.insertAll(recipientIds, sessionId, type, message, null, createdAt);
+            // Read back by generated id, so fan-outs landing in the same second never pick up each other's rows
+            notificationStreamService.pushBatch(recipientIds, notificationIds);
+            logger.debug("Fanned out {} {} notifications for session {}", recipientIds.size(), type, sessionId);
+        } catch (Exception e) {
+            logger.error("Notification fan-out failed for session {} ({}): {}", sessionId, type, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.appdev.academeet.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.appdev.academeet.config.NotificationRetentionProperties;
+import com.appdev.academeet.model.Notification;
+import com.appdev.academeet.model.NotificationType;
+import com.appdev.academeet.model.Session;
+import com.appdev.academeet.model.SessionStatus;
+import com.appdev.academeet.repository.NotificationRepository;
+import com.appdev.academeet.repository.SessionRepository;
+import com.appdev.academeet.repository.UserRepository;
+
+/**
+ * Keeps the notifications table bounded: collapses unread duplicates into one
+ * aggregated row, then deletes expired rows in small primary-key chunks, each
+ * in its own short transaction. Rows removed are counted per rule.
+ */
+@Component
+public class NotificationRetentionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetentionJob.class);
+
+    private static final Set<SessionStatus> FINISHED_STATUSES =
+            EnumSet.of(SessionStatus.COMPLETED, SessionStatus.DELETED, SessionStatus.TRASH);
+
+    private final NotificationRepository notificationRepository;
+    private final SessionRepository sessionRepository;
+    private final UserRepository userRepository;
+    private final NotificationRetentionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    // Cumulative rows removed since startup, keyed by rule (e.g. "ttl:COMMENT_ON_SESSION", "collapse:...")
+    private final Map<String, AtomicLong> removedByRule = new ConcurrentHashMap<>();
+
+    public NotificationRetentionJob(NotificationRepository notificationRepository,
+                                    SessionRepository sessionRepository,
+                                    UserRepository userRepository,
+                                    NotificationRetentionProperties properties,
+                                    TransactionTemplate transactionTemplate) {
+        this.notificationRepository = notificationRepository;
+        this.sessionRepository = sessionRepository;
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(cron = "${academeet.notifications.retention.cron:0 0 4 * * *}")
+    public void run() {
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Long> removed = new LinkedHashMap<>();
+
+        for (NotificationType type : properties.getCollapseTypes()) {
+            record(removed, "collapse:" + type, collapse(type));
+        }
+
+        for (NotificationType type : NotificationType.values()) {
+            LocalDateTime cutoff = now.minusDays(properties.ttlDaysFor(type));
+            if (type.name().startsWith("REMINDER_")) {
+                record(removed, "ttl:" + type, deleteInChunks(page ->
+                        notificationRepository.findExpiredReminderIds(type, cutoff, FINISHED_STATUSES, page)));
+            } else {
+                record(removed, "ttl:" + type, deleteInChunks(page ->
+                        notificationRepository.findExpiredReadIds(type, cutoff, page)));
+            }
+        }
+
+        LocalDateTime maxAgeCutoff = now.minusDays(properties.getMaxAgeDays());
+        record(removed, "max-age", deleteInChunks(page -> notificationRepository.findIdsCreatedBefore(maxAgeCutoff, page)));
+
+        long total = removed.values().stream().mapToLong(Long::longValue).sum();
+        logger.info("Notification retention removed {} rows in {} ms: {}", total, System.currentTimeMillis() - started, removed);
+    }
+
+    public Map<String, Long> getRemovedCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        removedByRule.forEach((rule, count) -> counts.put(rule, count.get()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private long deleteInChunks(Function<Pageable, List<Long>> nextChunk) {
+        Pageable page = PageRequest.of(0, properties.getChunkSize());
+        long deleted = 0;
+        while (true) {
+            List<Long> ids = nextChunk.apply(page);
+            if (ids.isEmpty()) {
+                return deleted;
+            }
+            Integer rows = transactionTemplate.execute(status -> notificationRepository.deleteByIdIn(ids));
+            deleted += rows != null ? rows : 0;
+            if (ids.size() < properties.getChunkSize() || !pause()) {
+                return deleted;
+            }
+        }
+    }
+
+    // Replaces each (recipient, session) group of unread duplicates with a single aggregated notification
+    private long collapse(NotificationType type) {
+        long removed = 0;
+        for (Object[] group : notificationRepository.findCollapsibleGroups(type)) {
+            Long userId = (Long) group[0];
+            Long sessionId = (Long) group[1];
+            Integer rows = transactionTemplate.execute(status -> collapseGroup(type, userId, sessionId));
+            removed += rows != null ? rows : 0;
+        }
+        return removed;
+    }
+
+    private int collapseGroup(NotificationType type, Long userId, Long sessionId) {
+        List<Object[]> rows = notificationRepository.findCollapsibleRows(type, userId, sessionId);
+        Session session = sessionRepository.findById(sessionId).orElse(null);
+        if (rows.size() < 2 || session == null) {
+            return 0;
+        }
+
+        List<Long> ids = rows.stream().map(row -> (Long) row[0]).toList();
+        int eventCount = rows.stream().mapToInt(row -> (Integer) row[2]).sum();
+        LocalDateTime latest = rows.stream().map(row -> (LocalDateTime) row[1])
+                .max(LocalDateTime::compareTo).orElse(LocalDateTime.now());
+
+        notificationRepository.deleteByIdIn(ids);
+        Notification aggregate = new Notification(userRepository.getReferenceById(userId), session, type,
+                NotificationService.aggregateMessage(type, eventCount, session.getTitle()));
+        aggregate.setEventCount(eventCount);
+        aggregate.setCreatedAt(latest);
+        notificationRepository.save(aggregate);
+
+        // The aggregate replaces the group, so one row of it was kept
+        return ids.size() - 1;
+    }
+
+    private void record(Map<String, Long> removed, String rule, long count) {
+        removed.put(rule, count);
+        removedByRule.computeIfAbsent(rule, r -> new AtomicLong()).addAndGet(count);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getChunkPauseMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,52 +1,171 @@
 package com.appdev.academeet.service;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.appdev.academeet.dto.CursorPage;
 import com.appdev.academeet.dto.NotificationDTO;
+import com.appdev.academeet.exception.ResourceNotFoundException;
+import com.appdev.academeet.exception.ValidationException;
 import com.appdev.academeet.model.Notification;
 import com.appdev.academeet.model.NotificationType;
 import com.appdev.academeet.model.Session;
 import com.appdev.academeet.model.User;
 import com.appdev.academeet.repository.NotificationRepository;
+import com.appdev.academeet.repository.UserRepository;
+import com.appdev.academeet.util.KeysetCursor;
+import com.appdev.academeet.util.TransactionUtils;
 
 @Service
 public class NotificationService {
     
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final NotificationFanoutService notificationFanoutService;
+    private final ReminderScheduler reminderScheduler;
+    private final NotificationStreamService notificationStreamService;
+    private final Clock clock;
+    private final Duration coalesceWindow;
     
-    public NotificationService(NotificationRepository notificationRepository) {
+    public NotificationService(NotificationRepository notificationRepository,
+                               UserRepository userRepository,
+                               NotificationFanoutService notificationFanoutService,
+                               ReminderScheduler reminderScheduler,
+                               NotificationStreamService notificationStreamService,
+                               Clock clock,
+                               @Value("${academeet.notifications.coalesce-window-minutes:10}") long coalesceWindowMinutes) {
         this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.notificationFanoutService = notificationFanoutService;
+        this.reminderScheduler = reminderScheduler;
+        this.notificationStreamService = notificationStreamService;
+        this.clock = clock;
+        this.coalesceWindow = Duration.ofMinutes(coalesceWindowMinutes);
     }
     
     @Transactional
     public void createNotification(User recipient, Session session, NotificationType type, String message) {
         Notification notification = new Notification(recipient, session, type, message);
-        notificationRepository.save(notification);
+        notification.setCreatedAt(LocalDateTime.now(clock));
+        NotificationDTO dto = new NotificationDTO(notificationRepository.save(notification));
+        TransactionUtils.afterCommit(() -> notificationStreamService.pushNotification(recipient.getId(), dto));
+    }
+    
+    /**
+     * Merges a high-frequency event into the recipient's open notification of the
+     * same type and session when it was last bumped inside the coalescing window and
+     * is still unread; otherwise starts a new one. {@code singleMessage} is used
+     * for the first event of a window. A merge moves the row's created_at to now,
+     * so it re-sorts to the top of the feed and keeps the window open.
+     *
+     * The open row is found by its unique coalescing key, so concurrent events only
+     * serialize on that one notification row.
+     */
+    @Transactional
+    public void createCoalescedNotification(User recipient, Session session, NotificationType type, String singleMessage) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        String key = coalesceKey(recipient.getId(), session.getId(), type);
+        Long readThrough = userRepository.findNotificationsReadThrough(recipient.getId());
+        notificationRepository.closeCoalescing(key, now.minus(coalesceWindow), readThrough != null ? readThrough : 0L);
+        notificationRepository.upsertCoalescing(recipient.getId(), session.getId(), type.name(), singleMessage, key, now);
+        
+        Notification open = notificationRepository.findByCoalesceKey(key)
+                .orElseThrow(() -> new IllegalStateException("Coalesced notification missing for " + key));
+        if (open.getEventCount() == 1) {
+            NotificationDTO dto = new NotificationDTO(open);
+            TransactionUtils.afterCommit(() -> notificationStreamService.pushNotification(recipient.getId(), dto));
+            return;
+        }
+        
+        open.setMessage(aggregateMessage(type, open.getEventCount(), session.getTitle()));
+        NotificationDTO dto = new NotificationDTO(notificationRepository.save(open));
+        TransactionUtils.afterCommit(() -> notificationStreamService.pushNotificationUpdate(recipient.getId(), dto));
+    }
+    
+    static String coalesceKey(Long recipientId, Long sessionId, NotificationType type) {
+        return recipientId + ":" + sessionId + ":" + type.name();
+    }
+    
+    static String aggregateMessage(NotificationType type, int count, String sessionTitle) {
+        switch (type) {
+            case PARTICIPANT_JOINED:
+                return String.format("✅ %d people joined your session \"%s\"", count, sessionTitle);
+            case COMMENT_ON_SESSION:
+                return String.format("💬 %d new comments on your session \"%s\"", count, sessionTitle);
+            default:
+                return String.format("🔔 %d new updates for \"%s\"", count, sessionTitle);
+        }
     }
     
     @Transactional
     public void createReminder(User recipient, Session session, NotificationType type, String message, LocalDateTime scheduledTime) {
         Notification reminder = new Notification(recipient, session, type, message, scheduledTime);
-        notificationRepository.save(reminder);
+        Notification saved = notificationRepository.save(reminder);
+        reminderScheduler.schedule(saved.getId(), scheduledTime);
     }
    
+    // Legacy list endpoints return every row in feed order; /feed is the bounded variant
     @Transactional(readOnly = true)
     public List<NotificationDTO> getAllNotifications(Long userId) {
-        return notificationRepository.findAllByUserId(userId).stream()
-                .map(NotificationDTO::new)
-                .collect(Collectors.toList());
+        return listFeed(userId, false);
     }
     
     @Transactional(readOnly = true)
     public List<NotificationDTO> getUnreadNotifications(Long userId) {
-        return notificationRepository.findUnreadByUserId(userId).stream()
-                .map(NotificationDTO::new)
-                .collect(Collectors.toList());
+        return listFeed(userId, true);
+    }
+    
+    private List<NotificationDTO> listFeed(Long userId, boolean unreadOnly) {
+        Long readThrough = userRepository.findNotificationsReadThrough(userId);
+        if (readThrough == null) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        return notificationRepository.findFeed(userId, readThrough, unreadOnly, Pageable.unpaged());
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<NotificationDTO> getFeed(Long userId, boolean unreadOnly, String cursor, Integer size) {
+        int limit = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Long readThrough = userRepository.findNotificationsReadThrough(userId);
+        if (readThrough == null) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        
+        // Fetch one extra row to know whether another page exists
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<NotificationDTO> items;
+        if (cursor == null || cursor.isEmpty()) {
+            items = notificationRepository.findFeed(userId, readThrough, unreadOnly, page);
+        } else {
+            String[] parts = KeysetCursor.decode(cursor, 2);
+            try {
+                items = notificationRepository.findFeedAfter(userId, readThrough, unreadOnly,
+                        LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]), page);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new ValidationException("Invalid cursor", e);
+            }
+        }
+        
+        String nextCursor = null;
+        if (items.size() > limit) {
+            items = items.subList(0, limit);
+            NotificationDTO last = items.get(limit - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getId());
+        }
+        return new CursorPage<>(items, nextCursor);
     }
     
     @Transactional(readOnly = true)
@@ -63,8 +182,12 @@ public class NotificationService {
             throw new SecurityException("Unauthorized to mark this notification as read");
         }
         
+        boolean wasUnread = !isEffectivelyRead(notification, userId);
         notification.setRead(true);
         notificationRepository.save(notification);
+        if (wasUnread) {
+            TransactionUtils.afterCommit(() -> notificationStreamService.pushUnreadDelta(userId, notification.isScheduled(), -1));
+        }
     }
     
     @Transactional
@@ -76,14 +199,51 @@ public class NotificationService {
             throw new SecurityException("Unauthorized to mark this notification as unread");
         }
         
+        boolean wasRead = isEffectivelyRead(notification, userId);
+        if (notification.isInstant()) {
+            Long readThrough = userRepository.findNotificationsReadThrough(userId);
+            if (notification.getId() <= readThrough) {
+                // Lower the watermark below this row, keeping everything between it and the old mark read
+                notificationRepository.markReadBetween(userId, notification.getId(), readThrough);
+                userRepository.setNotificationsReadThrough(userId, notification.getId() - 1);
+            }
+        }
         notification.setRead(false);
         notificationRepository.save(notification);
+        if (wasRead) {
+            TransactionUtils.afterCommit(() -> notificationStreamService.pushUnreadDelta(userId, notification.isScheduled(), 1));
+        }
     }
     
 
+    /**
+     * Single-row update: advances the user's read-through watermark. {@code seenThroughId}
+     * is the newest notification id the client has shown; rows above it stay unread.
+     *
+     * Without it the watermark falls back to the newest row created before this call
+     * started. That still has a gap: a lower id whose transaction commits after this
+     * one reads as read once it lands, because ids are assigned before commit. Clients
+     * should pass the id they saw.
+     */
     @Transactional
-    public void markAllAsRead(Long userId) {
-        notificationRepository.markAllAsReadByUserId(userId);
+    public void markAllAsRead(Long userId, Long seenThroughId) {
+        Long throughId = seenThroughId;
+        if (throughId == null) {
+            throughId = notificationRepository.findLatestInstantIdByUserIdCreatedBefore(userId, LocalDateTime.now(clock));
+        }
+        if (throughId != null) {
+            // Never lowers the watermark, so a stale client cannot un-read anything
+            userRepository.advanceNotificationsReadThrough(userId, throughId);
+        }
+        TransactionUtils.afterCommit(() -> notificationStreamService.pushUnreadSnapshot(userId));
+    }
+    
+    private boolean isEffectivelyRead(Notification notification, Long userId) {
+        if (notification.isRead()) {
+            return true;
+        }
+        return notification.isInstant()
+                && notification.getId() <= userRepository.findNotificationsReadThrough(userId);
     }
     
     @Transactional
@@ -92,6 +252,12 @@ public class NotificationService {
         createNotification(user, session, NotificationType.JOIN_CONFIRMATION, message);
     }
 
+    @Transactional
+    public void notifyWaitlistPromoted(User user, Session session) {
+        String message = String.format("🎉 A spot opened up! You have been moved from the waitlist into \"%s\"", session.getTitle());
+        createNotification(user, session, NotificationType.WAITLIST_PROMOTED, message);
+    }
+
     @Transactional
     public void notifyParticipantJoined(User participant, Session session) {
         if (session.getHost().getId().equals(participant.getId())) {
@@ -100,32 +266,23 @@ public class NotificationService {
         
         String message = String.format("✅ %s joined your session \"%s\"", 
                 participant.getName(), session.getTitle());
-        createNotification(session.getHost(), session, NotificationType.PARTICIPANT_JOINED, message);
+        createCoalescedNotification(session.getHost(), session, NotificationType.PARTICIPANT_JOINED, message);
     }
     
-    @Transactional
-    public void notifySessionUpdated(Session session, List<User> participants) {
+    // Participant fan-outs are written in bulk after the caller's transaction commits
+    public void notifySessionUpdated(Session session) {
         String message = String.format("🔔 The session \"%s\" has been updated. Please check the details.", 
                 session.getTitle());
-        
-        for (User participant : participants) {
-            if (!participant.getId().equals(session.getHost().getId())) {
-                createNotification(participant, session, NotificationType.SESSION_UPDATED, message);
-            }
-        }
+        notificationFanoutService.notifyParticipants(session.getId(), session.getHost().getId(),
+                NotificationType.SESSION_UPDATED, message);
     }
 
-    @Transactional
-    public void notifySessionCanceled(Session session, List<User> participants) {
+    public void notifySessionCanceled(Session session) {
         String message = String.format("❌ The session \"%s\" has been canceled by %s.", 
                 session.getTitle(), session.getHost().getName());
-        
-        for (User participant : participants) {
-            // Don't notify the host
-            if (!participant.getId().equals(session.getHost().getId())) {
-                createNotification(participant, session, NotificationType.SESSION_CANCELED, message);
-            }
-        }
+        // Don't notify the host
+        notificationFanoutService.notifyParticipants(session.getId(), session.getHost().getId(),
+                NotificationType.SESSION_CANCELED, message);
     }
 
     @Transactional
@@ -148,37 +305,39 @@ public class NotificationService {
         
         String message = String.format("💬 %s commented on your session \"%s\"", 
                 commenter.getName(), session.getTitle());
-        createNotification(session.getHost(), session, NotificationType.COMMENT_ON_SESSION, message);
+        createCoalescedNotification(session.getHost(), session, NotificationType.COMMENT_ON_SESSION, message);
     }
     
-    @Transactional
-    public void notifyNotesUploaded(Session session, List<User> participants) {
+    public void notifyNotesUploaded(Session session) {
         String message = String.format("📎 New notes were uploaded for \"%s\"", session.getTitle());
-        
-        for (User participant : participants) {
-            if (!participant.getId().equals(session.getHost().getId())) {
-                createNotification(participant, session, NotificationType.NOTES_UPLOADED, message);
-            }
-        }
+        notificationFanoutService.notifyParticipants(session.getId(), session.getHost().getId(),
+                NotificationType.NOTES_UPLOADED, message);
     }
     
     @Transactional(readOnly = true)
     public List<NotificationDTO> getActiveReminders(Long userId) {
-        LocalDateTime now = LocalDateTime.now();
-        return notificationRepository.findActiveRemindersByUserId(userId, now).stream()
+        return notificationRepository.findActiveRemindersByUserId(userId).stream()
                 .map(NotificationDTO::new)
                 .collect(Collectors.toList());
     }
     
     @Transactional(readOnly = true)
     public Long getUnreadReminderCount(Long userId) {
-        LocalDateTime now = LocalDateTime.now();
-        return notificationRepository.countUnreadRemindersByUserId(userId, now);
+        return notificationRepository.countUnreadRemindersByUserId(userId);
     }
     
     @Transactional
     public void deleteRemindersForUserSession(Long userId, Long sessionId) {
+        List<Long> reminderIds = notificationRepository.findReminderIdsByUserIdAndSessionId(userId, sessionId);
         notificationRepository.deleteRemindersByUserIdAndSessionId(userId, sessionId);
+        reminderScheduler.cancel(reminderIds);
+    }
+    
+    @Transactional
+    public void deleteRemindersForSession(Long sessionId) {
+        List<Long> reminderIds = notificationRepository.findReminderIdsBySessionId(sessionId);
+        notificationRepository.deleteRemindersBySessionId(sessionId);
+        reminderScheduler.cancel(reminderIds);
     }
     
     @Transactional
@@ -188,7 +347,7 @@ public class NotificationService {
         }
 
         LocalDateTime sessionStart = session.getStartTime();
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now(clock);
         
         long hoursUntilSession = java.time.Duration.between(now, sessionStart).toHours();
         
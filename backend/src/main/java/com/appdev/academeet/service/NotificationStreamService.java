@@ -0,0 +1,230 @@
+package com.appdev.academeet.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.appdev.academeet.dto.NotificationDTO;
+import com.appdev.academeet.model.Notification;
+import com.appdev.academeet.repository.NotificationRepository;
+import com.appdev.academeet.repository.UserRepository;
+
+/**
+ * Pushes notifications and unread-count changes to connected clients over
+ * Server-Sent Events. Emitters are servlet async responses, so an idle
+ * connection holds no request thread.
+ *
+ * Instant notifications carry their id as the SSE event id; a reconnecting
+ * client sends it back (Last-Event-ID or ?resume=) and receives what it
+ * missed. A coalesced notification that changes in place is re-sent under
+ * its own id but without an SSE id, so it never moves the client's resume
+ * point backwards; on resume the unread coalesced rows at or below that
+ * point are re-sent, since any of them may have changed while the client
+ * was away. Every connection starts with an absolute unread-count
+ * snapshot, followed by deltas.
+ */
+@Service
+public class NotificationStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStreamService.class);
+
+    private static final int MAX_REPLAY = 100;
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final long timeoutMs;
+
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+
+    public NotificationStreamService(NotificationRepository notificationRepository,
+                                     UserRepository userRepository,
+                                     @Value("${academeet.stream.timeout-ms:1800000}") long timeoutMs) {
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        Connection connection = new Connection(new SseEmitter(timeoutMs));
+        connections.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(connection);
+        connection.emitter.onCompletion(() -> unregister(userId, connection));
+        connection.emitter.onTimeout(() -> unregister(userId, connection));
+        connection.emitter.onError(e -> unregister(userId, connection));
+
+        if (lastEventId != null) {
+            Long readThrough = userRepository.findNotificationsReadThrough(userId);
+            long watermark = readThrough != null ? readThrough : 0L;
+            List<NotificationDTO> changed = notificationRepository.findUnreadCoalescedUpTo(userId, watermark,
+                    lastEventId, PageRequest.of(0, MAX_REPLAY));
+            for (NotificationDTO notification : changed) {
+                send(userId, connection, notificationUpdateEvent(notification));
+            }
+            // Sent last and in id order, so the client's resume point ends on the newest id
+            List<NotificationDTO> missed = notificationRepository.findInstantByUserIdAfter(userId,
+                    watermark, lastEventId, PageRequest.of(0, MAX_REPLAY));
+            for (NotificationDTO notification : missed) {
+                send(userId, connection, notificationEvent(notification));
+            }
+        }
+        send(userId, connection, snapshotEvent(unreadCounts(userId)));
+        return connection.emitter;
+    }
+
+    public boolean isConnected(Long userId) {
+        return connections.containsKey(userId);
+    }
+
+    public void pushNotification(Long userId, NotificationDTO notification) {
+        if (!isConnected(userId)) {
+            return;
+        }
+        broadcast(userId, () -> notificationEvent(notification));
+        broadcast(userId, () -> deltaEvent(notification.isScheduled() ? "reminders" : "notifications", 1));
+    }
+
+    // A coalesced notification changed in place: no change to the unread count
+    public void pushNotificationUpdate(Long userId, NotificationDTO notification) {
+        if (isConnected(userId)) {
+            broadcast(userId, () -> notificationUpdateEvent(notification));
+        }
+    }
+
+    public void pushReminder(Long userId, NotificationDTO reminder) {
+        if (!isConnected(userId)) {
+            return;
+        }
+        // No event id: reminders are not part of the resumable notification sequence
+        broadcast(userId, () -> SseEmitter.event().name("reminder").data(reminder));
+        broadcast(userId, () -> deltaEvent("reminders", 1));
+    }
+
+    public void pushUnreadDelta(Long userId, boolean reminder, long delta) {
+        if (isConnected(userId)) {
+            broadcast(userId, () -> deltaEvent(reminder ? "reminders" : "notifications", delta));
+        }
+    }
+
+    public void pushUnreadSnapshot(Long userId) {
+        if (isConnected(userId)) {
+            Map<String, Long> counts = unreadCounts(userId);
+            broadcast(userId, () -> snapshotEvent(counts));
+        }
+    }
+
+    // notificationIds[i] was written for recipientIds[i]; only rows for connected recipients are loaded
+    public void pushBatch(List<Long> recipientIds, List<Long> notificationIds) {
+        List<Long> connected = new ArrayList<>();
+        for (int i = 0; i < recipientIds.size() && i < notificationIds.size(); i++) {
+            if (isConnected(recipientIds.get(i))) {
+                connected.add(notificationIds.get(i));
+            }
+        }
+        if (connected.isEmpty()) {
+            return;
+        }
+        for (Notification notification : notificationRepository.findAllWithSessionByIdIn(connected)) {
+            pushNotification(notification.getRecipient().getId(), new NotificationDTO(notification));
+        }
+    }
+
+    public void pushDeliveredReminders(Collection<Long> notificationIds) {
+        if (connections.isEmpty()) {
+            return;
+        }
+        for (Notification reminder : notificationRepository.findAllWithSessionByIdIn(notificationIds)) {
+            pushReminder(reminder.getRecipient().getId(), new NotificationDTO(reminder));
+        }
+    }
+
+    // Keeps proxies from closing idle connections and flushes out dead ones
+    @Scheduled(fixedRateString = "${academeet.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        connections.forEach((userId, userConnections) -> {
+            for (Connection connection : userConnections) {
+                send(userId, connection, SseEmitter.event().comment("heartbeat"));
+            }
+        });
+    }
+
+    private SseEmitter.SseEventBuilder notificationEvent(NotificationDTO notification) {
+        return SseEmitter.event()
+                .id(String.valueOf(notification.getId()))
+                .name("notification")
+                .data(notification);
+    }
+
+    // No SSE id: the notification's own id is older than the client's resume point
+    private SseEmitter.SseEventBuilder notificationUpdateEvent(NotificationDTO notification) {
+        return SseEmitter.event()
+                .name("notification")
+                .data(notification);
+    }
+
+    private SseEmitter.SseEventBuilder deltaEvent(String scope, long delta) {
+        return SseEmitter.event().name("unread-delta").data(Map.of("scope", scope, "delta", delta));
+    }
+
+    private SseEmitter.SseEventBuilder snapshotEvent(Map<String, Long> counts) {
+        return SseEmitter.event().name("unread-count").data(counts);
+    }
+
+    private Map<String, Long> unreadCounts(Long userId) {
+        return Map.of(
+                "notifications", notificationRepository.countUnreadByUserId(userId),
+                "reminders", notificationRepository.countUnreadRemindersByUserId(userId));
+    }
+
+    // Event builders are single-use, so each connection gets a fresh one
+    private void broadcast(Long userId, Supplier<SseEmitter.SseEventBuilder> event) {
+        Set<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        for (Connection connection : userConnections) {
+            send(userId, connection, event.get());
+        }
+    }
+
+    private void send(Long userId, Connection connection, SseEmitter.SseEventBuilder event) {
+        try {
+            connection.send(event);
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Dropping notification stream for user {}: {}", userId, e.getMessage());
+            unregister(userId, connection);
+            connection.emitter.completeWithError(e);
+        }
+    }
+
+    private void unregister(Long userId, Connection connection) {
+        connections.computeIfPresent(userId, (id, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    // SseEmitter is not safe for concurrent sends
+    private static final class Connection {
+        private final SseEmitter emitter;
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private synchronized void send(SseEmitter.SseEventBuilder event) throws IOException {
+            emitter.send(event);
+        }
+    }
+}
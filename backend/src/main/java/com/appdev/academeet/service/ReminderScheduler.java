@@ -0,0 +1,178 @@
+package com.appdev.academeet.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.appdev.academeet.repository.NotificationRepository;
+import com.appdev.academeet.util.TransactionUtils;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Fires reminder notifications at their scheduled time. Reminders due within
+ * the look-ahead horizon are held in a DelayQueue; a dispatcher thread takes
+ * them as they expire and marks them delivered in batches, which is what makes
+ * them show up in the user's reminder list. The queue is refilled from the
+ * pending-reminder index on startup and periodically, so reminders created
+ * further out, or missed while the app was down, are picked up.
+ */
+@Service
+public class ReminderScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderScheduler.class);
+
+    private static final int DELIVERY_BATCH_SIZE = 500;
+
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationStreamService notificationStreamService;
+    private final Duration horizon;
+
+    private final DelayQueue<PendingReminder> queue = new DelayQueue<>();
+    private final Set<Long> queuedIds = ConcurrentHashMap.newKeySet();
+    private volatile Thread dispatcher;
+
+    public ReminderScheduler(NotificationRepository notificationRepository,
+                             TransactionTemplate transactionTemplate,
+                             NotificationStreamService notificationStreamService,
+                             @Value("${academeet.reminders.horizon-minutes:30}") long horizonMinutes) {
+        this.notificationRepository = notificationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.notificationStreamService = notificationStreamService;
+        this.horizon = Duration.ofMinutes(horizonMinutes);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refill();
+        dispatcher = new Thread(this::dispatchLoop, "reminder-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = dispatcher;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    // Runs at half the horizon so nothing due inside the window is missed
+    @Scheduled(fixedDelayString = "#{${academeet.reminders.horizon-minutes:30} * 30000}",
+               initialDelayString = "#{${academeet.reminders.horizon-minutes:30} * 30000}")
+    public void refill() {
+        int added = 0;
+        for (Object[] row : notificationRepository.findPendingReminderSchedule(LocalDateTime.now().plus(horizon))) {
+            if (enqueue((Long) row[0], (LocalDateTime) row[1])) {
+                added++;
+            }
+        }
+        if (added > 0) {
+            logger.debug("Queued {} reminders due within {} minutes", added, horizon.toMinutes());
+        }
+    }
+
+    /**
+     * Queues a newly created reminder once the creating transaction commits.
+     * Reminders beyond the horizon are left to the periodic refill.
+     */
+    public void schedule(Long notificationId, LocalDateTime scheduledTime) {
+        if (scheduledTime.isAfter(LocalDateTime.now().plus(horizon))) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> enqueue(notificationId, scheduledTime));
+    }
+
+    public void cancel(Collection<Long> notificationIds) {
+        for (Long id : notificationIds) {
+            if (queuedIds.remove(id)) {
+                queue.remove(new PendingReminder(id, 0));
+            }
+        }
+    }
+
+    private boolean enqueue(Long id, LocalDateTime scheduledTime) {
+        if (!queuedIds.add(id)) {
+            return false;
+        }
+        long dueAtMillis = scheduledTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        queue.put(new PendingReminder(id, dueAtMillis));
+        return true;
+    }
+
+    private void dispatchLoop() {
+        List<PendingReminder> batch = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, DELIVERY_BATCH_SIZE - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // Leave them for the next refill to pick up again
+                logger.error("Failed to deliver {} reminders: {}", batch.size(), e.getMessage(), e);
+            } finally {
+                batch.forEach(reminder -> queuedIds.remove(reminder.id));
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<PendingReminder> batch) {
+        List<Long> ids = batch.stream().map(reminder -> reminder.id).toList();
+        Integer delivered = transactionTemplate.execute(status -> notificationRepository.markDelivered(ids));
+        logger.debug("Delivered {} of {} due reminders", delivered, ids.size());
+        notificationStreamService.pushDeliveredReminders(ids);
+    }
+
+    private static final class PendingReminder implements Delayed {
+        private final long id;
+        private final long dueAtMillis;
+
+        private PendingReminder(long id, long dueAtMillis) {
+            this.id = id;
+            this.dueAtMillis = dueAtMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((PendingReminder) other).dueAtMillis);
+        }
+
+        // Identity is the notification id so cancel() can remove by id
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PendingReminder other && other.id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(id);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.appdev.academeet.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.appdev.academeet.model.Session;
+import com.appdev.academeet.model.SessionStatus;
+import com.appdev.academeet.model.User;
+import com.appdev.academeet.repository.SessionRepository;
+import com.appdev.academeet.repository.SessionTagRepository;
+import com.appdev.academeet.repository.UserRepository;
+import com.appdev.academeet.util.InvertedIndex;
+import com.appdev.academeet.util.InvertedIndex.Field;
+import com.appdev.academeet.util.InvertedIndex.Hit;
+import com.appdev.academeet.util.TransactionUtils;
+
+/**
+ * Keyword index over live sessions and all users.
+ *
+ * Writes are applied after the surrounding transaction commits, so a
+ * rollback never leaves phantom entries. Sessions leave the index as soon
+ * as they stop being live (closed, trashed, deleted or completed).
+ * {@link #rebuild} builds fresh indexes off to the side and swaps them in;
+ * writes that land while it runs are replayed onto the new indexes first.
+ */
+@Service
+public class SearchIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexService.class);
+
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double TAG_WEIGHT = 2.0;
+    private static final double LOCATION_WEIGHT = 1.5;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double PROGRAM_WEIGHT = 1.0;
+
+    private final SessionRepository sessionRepository;
+    private final SessionTagRepository sessionTagRepository;
+    private final UserRepository userRepository;
+
+    private volatile InvertedIndex sessionIndex = new InvertedIndex();
+    private volatile InvertedIndex userIndex = new InvertedIndex();
+    private volatile boolean ready = false;
+
+    // Guarded by this; non-null while a rebuild is reading the database
+    private List<BiConsumer<InvertedIndex, InvertedIndex>> writesDuringRebuild;
+
+    public SearchIndexService(SessionRepository sessionRepository,
+                              SessionTagRepository sessionTagRepository,
+                              UserRepository userRepository) {
+        this.sessionRepository = sessionRepository;
+        this.sessionTagRepository = sessionTagRepository;
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        synchronized (this) {
+            writesDuringRebuild = new ArrayList<>();
+        }
+
+        InvertedIndex sessions = new InvertedIndex();
+        InvertedIndex users = new InvertedIndex();
+        try {
+            Map<Long, List<String>> tagsBySession = new HashMap<>();
+            for (Object[] row : sessionTagRepository.findAllSessionIdAndTagName()) {
+                tagsBySession.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+            }
+            for (Object[] row : sessionRepository.findSearchableFields(SessionStatus.LIVE)) {
+                Long id = (Long) row[0];
+                putSession(sessions, id, (String) row[1], (String) row[2], (String) row[3],
+                        tagsBySession.getOrDefault(id, List.of()));
+            }
+            for (Object[] row : userRepository.findSearchableFields()) {
+                putUser(users, (Long) row[0], (String) row[1], (String) row[2]);
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                writesDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            for (BiConsumer<InvertedIndex, InvertedIndex> write : writesDuringRebuild) {
+                write.accept(sessions, users);
+            }
+            writesDuringRebuild = null;
+            sessionIndex = sessions;
+            userIndex = users;
+        }
+        ready = true;
+        logger.info("Search index built: {} sessions, {} users in {} ms",
+                sessions.size(), users.size(), System.currentTimeMillis() - started);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Indexes a live session, or drops it once it is no longer live; takes effect on commit
+    public void indexSession(Session session) {
+        Long id = session.getId();
+        if (!SessionStatus.LIVE.contains(session.getSessionStatus())) {
+            removeSession(id);
+            return;
+        }
+        // Read the fields now, while the entity is still attached
+        String title = session.getTitle();
+        String description = session.getDescription();
+        String location = session.getLocation();
+        List<String> tags = List.copyOf(session.getTags());
+        afterCommit((sessions, users) -> putSession(sessions, id, title, description, location, tags));
+    }
+
+    public void removeSession(Long sessionId) {
+        afterCommit((sessions, users) -> sessions.remove(sessionId));
+    }
+
+    public void removeSessions(Collection<Long> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(sessionIds);
+        afterCommit((sessions, users) -> ids.forEach(sessions::remove));
+    }
+
+    public void indexUser(User user) {
+        Long id = user.getId();
+        String name = user.getName();
+        String program = user.getProgram();
+        afterCommit((sessions, users) -> putUser(users, id, name, program));
+    }
+
+    // Hits in rank order (score descending, then id); unlimited callers page through them in SQL
+    public List<Hit> searchSessions(String query, int limit) {
+        return sessionIndex.search(query, limit);
+    }
+
+    public List<Hit> searchUsers(String query, int limit) {
+        return userIndex.search(query, limit);
+    }
+
+    private void afterCommit(BiConsumer<InvertedIndex, InvertedIndex> write) {
+        TransactionUtils.afterCommit(() -> apply(write));
+    }
+
+    private synchronized void apply(BiConsumer<InvertedIndex, InvertedIndex> write) {
+        write.accept(sessionIndex, userIndex);
+        if (writesDuringRebuild != null) {
+            writesDuringRebuild.add(write);
+        }
+    }
+
+    private static void putSession(InvertedIndex index, Long id, String title, String description, String location,
+                                   List<String> tags) {
+        List<Field> fields = new ArrayList<>();
+        fields.add(new Field(title, TITLE_WEIGHT));
+        fields.add(new Field(location, LOCATION_WEIGHT));
+        fields.add(new Field(description, DESCRIPTION_WEIGHT));
+        for (String tag : tags) {
+            fields.add(new Field(tag, TAG_WEIGHT));
+        }
+        index.put(id, title, fields);
+    }
+
+    private static void putUser(InvertedIndex index, Long id, String name, String program) {
+        index.put(id, name, List.of(new Field(name, NAME_WEIGHT), new Field(program, PROGRAM_WEIGHT)));
+    }
+}
@@ -1,38 +1,63 @@
 package com.appdev.academeet.service;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.appdev.academeet.dto.CursorPage;
 import com.appdev.academeet.dto.SessionDTO;
+import com.appdev.academeet.exception.ValidationException;
 import com.appdev.academeet.model.Session;
 import com.appdev.academeet.model.SessionPrivacy;
 import com.appdev.academeet.model.SessionStatus;
 import com.appdev.academeet.model.User;
 import com.appdev.academeet.repository.SessionRepository;
+import com.appdev.academeet.repository.SessionSpecifications;
+import com.appdev.academeet.repository.SessionSpecifications.SearchSort;
 import com.appdev.academeet.repository.UserRepository;
+import com.appdev.academeet.repository.UserSpecifications;
+import com.appdev.academeet.util.InvertedIndex.Hit;
+import com.appdev.academeet.util.KeysetCursor;
 
 @Service
 public class SearchService {
 
+    private static final int DEFAULT_SESSION_PAGE_SIZE = 50;
+    private static final int MAX_SESSION_PAGE_SIZE = 100;
+    private static final int DEFAULT_USER_PAGE_SIZE = 20;
+    private static final int MAX_USER_PAGE_SIZE = 100;
+    // Index hits loaded and filtered per query while filling a relevance page
+    private static final int CANDIDATE_CHUNK = 200;
+    // Keyword searches only consider the best-scoring hits, so a broad query (one letter) never
+    // turns into an unbounded IN list or hundreds of chunk queries
+    private static final int MAX_KEYWORD_CANDIDATES = 1000;
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
     private final UserRepository userRepository;
     private final SessionRepository sessionRepository;
     private final UserService userService;
+    private final SearchIndexService searchIndexService;
+    private final SessionDTOAssembler sessionDTOAssembler;
     
     @Autowired
-    public SearchService(UserRepository userRepository, SessionRepository sessionRepository, UserService userService) {
+    public SearchService(UserRepository userRepository, SessionRepository sessionRepository, UserService userService,
+                         SearchIndexService searchIndexService, SessionDTOAssembler sessionDTOAssembler) {
         this.userRepository = userRepository;
         this.sessionRepository = sessionRepository;
         this.userService = userService;
+        this.searchIndexService = searchIndexService;
+        this.sessionDTOAssembler = sessionDTOAssembler;
     }
 
     @Transactional(readOnly = true)
@@ -56,14 +81,36 @@ public class SearchService {
 
     @Transactional(readOnly = true)
     public List<java.util.Map<String, Object>> searchUsersMapped(String keyword, String program, Integer yearLevel, String sortBy, Long currentUserId) {
-        List<User> users = searchUsers(keyword, program, yearLevel, sortBy);
+        return toUserResponses(searchUsers(keyword, program, yearLevel, sortBy), currentUserId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Map<String, Object>> searchUsersPage(String keyword, String program, Integer yearLevel,
+                                                          String sortBy, String cursor, Integer size,
+                                                          Long currentUserId) {
+        int limit = size == null ? DEFAULT_USER_PAGE_SIZE : Math.max(1, Math.min(size, MAX_USER_PAGE_SIZE));
+        CursorPage<User> page = searchUsers(keyword, program, yearLevel, sortBy, cursor, limit);
+        return new CursorPage<>(toUserResponses(page.getItems(), currentUserId), page.getNextCursor());
+    }
+
+    private List<Map<String, Object>> toUserResponses(List<User> users, Long currentUserId) {
+        if (users.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        // Counts are denormalized on User; follow state is one set query for the whole result
+        List<Long> userIds = users.stream().map(User::getId).toList();
+        Set<Long> followedIds = userService.getFollowedIdsAmong(currentUserId, userIds);
         
         return users.stream()
-                .map(user -> mapUserToResponse(user, currentUserId))
+                .map(user -> mapUserToResponse(user,
+                        user.getFollowerCount(),
+                        user.getFollowingCount(),
+                        followedIds.contains(user.getId())))
                 .collect(Collectors.toList());
     }
     
-    private java.util.Map<String, Object> mapUserToResponse(User user, Long currentUserId) {
+    private java.util.Map<String, Object> mapUserToResponse(User user, long followers, long following, boolean isFollowing) {
         java.util.Map<String, Object> userMap = new java.util.HashMap<>();
         userMap.put("id", user.getId());
         userMap.put("name", user.getName());
@@ -71,109 +118,134 @@ public class SearchService {
         userMap.put("program", user.getProgram());
         userMap.put("yearLevel", user.getYearLevel());
         userMap.put("bio", user.getBio());
-        userMap.put("profileImageUrl", user.getProfileImageUrl());
-        userMap.put("followers", userService.getFollowerCount(user.getId()));
-        userMap.put("following", userService.getFollowingCount(user.getId()));
-        
-        if (currentUserId != null) {
-            boolean isFollowing = userService.isFollowing(currentUserId, user.getId());
-            userMap.put("isFollowing", isFollowing);
-        } else {
-            userMap.put("isFollowing", false);
-        }
-        
+        userMap.put("profileImageUrl", user.getAvatarUrl());
+        userMap.put("followers", followers);
+        userMap.put("following", following);
+        userMap.put("isFollowing", isFollowing);
         return userMap;
     }
     
+    // Legacy endpoint: every match, in the requested order
     @Transactional(readOnly = true)
     public List<User> searchUsers(String keyword, String program, Integer yearLevel, String sortBy) {
-        List<User> users = new ArrayList<>();
+        List<User> users = searchUsers(keyword, program, yearLevel, sortBy, null, UNLIMITED).getItems();
 
-        if ((keyword == null || keyword.trim().isEmpty()) && program == null && yearLevel == null) {
-            return users;
+        if (!"name".equalsIgnoreCase(sortBy) && keyword != null && !keyword.trim().isEmpty()
+                && !searchIndexService.isReady()) {
+            users = new ArrayList<>(users);
+            final String lowerKeyword = keyword.toLowerCase();
+            users.sort((u1, u2) -> {
+                boolean u1NameMatch = u1.getName() != null && 
+                                      u1.getName().toLowerCase().startsWith(lowerKeyword);
+                boolean u2NameMatch = u2.getName() != null && 
+                                      u2.getName().toLowerCase().startsWith(lowerKeyword);
+                
+                if (u1NameMatch && !u2NameMatch) return -1;
+                if (!u1NameMatch && u2NameMatch) return 1;
+                
+                return String.CASE_INSENSITIVE_ORDER.compare(
+                    u1.getName() != null ? u1.getName() : "",
+                    u2.getName() != null ? u2.getName() : ""
+                );
+            });
         }
 
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            // Use repository-level LIKE query for better performance and SQL-level filtering
-            users = userRepository.searchByKeyword(keyword.trim());
-        } else {
-            users = userRepository.findAll();
-        }
+        return users;
+    }
 
-        if (program != null && !program.trim().isEmpty() && !program.equalsIgnoreCase("All Programs")) {
-            final String programFilter = program.trim();
-            users = users.stream()
-                    .filter(user -> user.getProgram() != null && 
-                                    user.getProgram().equalsIgnoreCase(programFilter))
-                    .collect(Collectors.toList());
+    // Relevance pages walk the index hits with a (score, id) cursor; everything else is a (name, id) keyset in SQL
+    private CursorPage<User> searchUsers(String keyword, String program, Integer yearLevel, String sortBy,
+                                         String cursor, int limit) {
+        String trimmedKeyword = keyword != null && !keyword.trim().isEmpty() ? keyword.trim() : null;
+        if (trimmedKeyword == null && program == null && yearLevel == null) {
+            return new CursorPage<>(new ArrayList<>(), null);
         }
 
-        if (yearLevel != null) {
-            users = users.stream()
-                    .filter(user -> user.getYearLevel() != null && 
-                                    user.getYearLevel().equals(yearLevel))
-                    .collect(Collectors.toList());
+        Specification<User> spec = UserSpecifications.hasProgram(program)
+                .and(UserSpecifications.hasYearLevel(yearLevel));
+
+        if (trimmedKeyword != null && searchIndexService.isReady()) {
+            List<Hit> hits = searchIndexService.searchUsers(trimmedKeyword, MAX_KEYWORD_CANDIDATES);
+            if (hits.isEmpty()) {
+                return new CursorPage<>(new ArrayList<>(), null);
+            }
+            if (!"name".equalsIgnoreCase(sortBy)) {
+                Specification<User> filters = spec;
+                return rankByScore(hits, cursor, limit,
+                        ids -> userRepository.findAll(filters.and(UserSpecifications.idIn(ids))), User::getId);
+            }
+            spec = spec.and(UserSpecifications.idIn(hits.stream().map(Hit::getId).toList()));
+        } else if (trimmedKeyword != null) {
+            // Index still warming up at startup: fall back to LIKE
+            spec = spec.and(UserSpecifications.nameContains(trimmedKeyword));
         }
 
-        if ("name".equalsIgnoreCase(sortBy)) {
-            users.sort(Comparator.comparing(User::getName, String.CASE_INSENSITIVE_ORDER));
-        } else {
-            if (keyword != null && !keyword.trim().isEmpty()) {
-                final String lowerKeyword = keyword.toLowerCase();
-                users.sort((u1, u2) -> {
-                    boolean u1NameMatch = u1.getName() != null && 
-                                          u1.getName().toLowerCase().startsWith(lowerKeyword);
-                    boolean u2NameMatch = u2.getName() != null && 
-                                          u2.getName().toLowerCase().startsWith(lowerKeyword);
-                    
-                    if (u1NameMatch && !u2NameMatch) return -1;
-                    if (!u1NameMatch && u2NameMatch) return 1;
-                    
-                    return String.CASE_INSENSITIVE_ORDER.compare(
-                        u1.getName() != null ? u1.getName() : "",
-                        u2.getName() != null ? u2.getName() : ""
-                    );
-                });
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] parts = KeysetCursor.decode(cursor, 2);
+            try {
+                spec = spec.and(UserSpecifications.afterName(parts[0], Long.valueOf(parts[1])));
+            } catch (NumberFormatException e) {
+                throw new ValidationException("Invalid cursor", e);
             }
         }
 
-        return users;
+        if (limit == UNLIMITED) {
+            return new CursorPage<>(userRepository.findAll(spec, UserSpecifications.BY_NAME), null);
+        }
+        // Fetch one extra row to know whether another page exists
+        List<User> users = userRepository.findBy(spec,
+                query -> query.sortBy(UserSpecifications.BY_NAME).limit(limit + 1).all());
+
+        String nextCursor = null;
+        if (users.size() > limit) {
+            users = users.subList(0, limit);
+            User last = users.get(limit - 1);
+            nextCursor = KeysetCursor.encode(last.getName(), last.getId());
+        }
+        return new CursorPage<>(users, nextCursor);
     }
 
+    // Legacy endpoint: every match, in the requested order
     @Transactional(readOnly = true)
     public List<SessionDTO> searchSessions(String keyword, String date, String timeOfDay, String privacy, String sortBy) {
-        
+        return searchSessions(keyword, date, timeOfDay, privacy, sortBy, null, UNLIMITED).getItems();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<SessionDTO> searchSessionsPage(String keyword, String date, String timeOfDay, String privacy,
+                                                     String sortBy, String cursor, Integer size) {
+        int limit = size == null ? DEFAULT_SESSION_PAGE_SIZE : Math.max(1, Math.min(size, MAX_SESSION_PAGE_SIZE));
+        return searchSessions(keyword, date, timeOfDay, privacy, sortBy, cursor, limit);
+    }
+
+    private CursorPage<SessionDTO> searchSessions(String keyword, String date, String timeOfDay, String privacy,
+                                                  String sortBy, String cursor, int limit) {
         if ((keyword == null || keyword.trim().isEmpty()) && date == null && 
             timeOfDay == null && privacy == null) {
-            return new ArrayList<>();
+            return new CursorPage<>(new ArrayList<>(), null);
         }
 
-        List<Session> sessions = sessionRepository.findAll().stream()
-                .filter(session -> session.getSessionStatus() == SessionStatus.ACTIVE)
-                .collect(Collectors.toList());
+        String trimmedKeyword = keyword != null && !keyword.trim().isEmpty() ? keyword.trim() : null;
+        SearchSort sort = SearchSort.from(sortBy);
 
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            final String lowerKeyword = keyword.toLowerCase();
-            sessions = sessions.stream()
-                    .filter(session -> 
-                        (session.getTitle() != null && 
-                         session.getTitle().toLowerCase().contains(lowerKeyword)) ||
-                        (session.getLocation() != null && 
-                         session.getLocation().toLowerCase().contains(lowerKeyword)) ||
-                        (session.getTags() != null && 
-                         session.getTags().stream()
-                                .anyMatch(tag -> tag.toLowerCase().contains(lowerKeyword)))
-                    )
-                    .collect(Collectors.toList());
+        Specification<Session> spec = SessionSpecifications.hasStatusIn(SessionStatus.LIVE);
+
+        List<Hit> hits = null;
+        if (trimmedKeyword != null) {
+            if (searchIndexService.isReady()) {
+                hits = searchIndexService.searchSessions(trimmedKeyword, MAX_KEYWORD_CANDIDATES);
+                if (hits.isEmpty()) {
+                    return new CursorPage<>(new ArrayList<>(), null);
+                }
+            } else {
+                // Index still warming up at startup: fall back to LIKE predicates
+                spec = spec.and(SessionSpecifications.matchesKeyword(trimmedKeyword));
+            }
         }
 
         if (date != null && !date.trim().isEmpty()) {
             try {
-                LocalDate filterDate = LocalDate.parse(date);
-                sessions = sessions.stream()
-                        .filter(session -> session.getStartTime() != null &&
-                                          session.getStartTime().toLocalDate().equals(filterDate))
-                        .collect(Collectors.toList());
+                spec = spec.and(SessionSpecifications.startsOn(LocalDate.parse(date)));
             } catch (java.time.format.DateTimeParseException e) {
                 org.slf4j.LoggerFactory.getLogger(SearchService.class)
                     .warn("Invalid date format provided for search: {}", date);
@@ -181,79 +253,103 @@ public class SearchService {
         }
 
         if (timeOfDay != null && !timeOfDay.trim().isEmpty() && !timeOfDay.equalsIgnoreCase("Any Time")) {
-            sessions = sessions.stream()
-                    .filter(session -> {
-                        if (session.getStartTime() == null) return false;
-                        LocalTime time = session.getStartTime().toLocalTime();
-                        int hour = time.getHour();
-                        
-                        switch (timeOfDay.toLowerCase()) {
-                            case "morning":
-                                // 6:00 AM to 11:59 AM (hour 6-11)
-                                return hour >= 6 && hour < 12;
-                            case "afternoon":
-                                // 12:00 PM to 5:59 PM (hour 12-17)
-                                return hour >= 12 && hour < 18;
-                            case "evening":
-                                // 6:00 PM to 11:59 PM (hour 18-23)
-                                return hour >= 18 && hour < 24;
-                            case "night":
-                                // 12:00 AM to 5:59 AM (hour 0-5)
-                                return hour >= 0 && hour < 6;
-                            default:
-                                return true;
-                        }
-                    })
-                    .collect(Collectors.toList());
+            spec = spec.and(SessionSpecifications.startsDuringTimeOfDay(timeOfDay));
         }
 
         if (privacy != null && !privacy.trim().isEmpty() && !privacy.equalsIgnoreCase("All Sessions")) {
             SessionPrivacy privacyType = privacy.equalsIgnoreCase("public") ? 
                                       SessionPrivacy.PUBLIC : SessionPrivacy.PRIVATE;
-            sessions = sessions.stream()
-                    .filter(session -> session.getSessionPrivacy() == privacyType)
-                    .collect(Collectors.toList());
+            spec = spec.and(SessionSpecifications.hasPrivacy(privacyType));
         }
 
-        if ("newest".equalsIgnoreCase(sortBy)) {
-            sessions.sort((s1, s2) -> {
-                if (s1.getCreatedAt() == null) return 1;
-                if (s2.getCreatedAt() == null) return -1;
-                return s2.getCreatedAt().compareTo(s1.getCreatedAt());
-            });
-        } else if ("oldest".equalsIgnoreCase(sortBy)) {
-            sessions.sort((s1, s2) -> {
-                if (s1.getCreatedAt() == null) return 1;
-                if (s2.getCreatedAt() == null) return -1;
-                return s1.getCreatedAt().compareTo(s2.getCreatedAt());
-            });
-        } else {
-            if (keyword != null && !keyword.trim().isEmpty()) {
-                final String lowerKeyword = keyword.toLowerCase();
-                sessions.sort((s1, s2) -> {
-                    boolean s1TitleMatch = s1.getTitle() != null && 
-                                          s1.getTitle().toLowerCase().startsWith(lowerKeyword);
-                    boolean s2TitleMatch = s2.getTitle() != null && 
-                                          s2.getTitle().toLowerCase().startsWith(lowerKeyword);
-                    
-                    if (s1TitleMatch && !s2TitleMatch) return -1;
-                    if (!s1TitleMatch && s2TitleMatch) return 1;
-                    
-                    if (s1.getStartTime() == null) return 1;
-                    if (s2.getStartTime() == null) return -1;
-                    return s1.getStartTime().compareTo(s2.getStartTime());
-                });
-            } else {
-                sessions.sort((s1, s2) -> {
-                    if (s1.getStartTime() == null) return 1;
-                    if (s2.getStartTime() == null) return -1;
-                    return s1.getStartTime().compareTo(s2.getStartTime());
-                });
+        if (hits != null && sort == SearchSort.RELEVANCE) {
+            Specification<Session> filters = spec;
+            CursorPage<Session> page = rankByScore(hits, cursor, limit,
+                    ids -> sessionRepository.search(filters.and(SessionSpecifications.idIn(ids)),
+                            SearchSort.RELEVANCE, null, ids.size()),
+                    Session::getId);
+            return new CursorPage<>(sessionDTOAssembler.toDTOs(page.getItems()), page.getNextCursor());
+        }
+        if (hits != null) {
+            spec = spec.and(SessionSpecifications.idIn(hits.stream().map(Hit::getId).toList()));
+        }
+
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] parts = KeysetCursor.decode(cursor, 3);
+            try {
+                Integer rank = parts[0].isEmpty() ? null : Integer.valueOf(parts[0]);
+                spec = spec.and(SessionSpecifications.after(sort, trimmedKeyword, rank,
+                        LocalDateTime.parse(parts[1]), Long.valueOf(parts[2])));
+            } catch (RuntimeException e) {
+                throw new ValidationException("Invalid cursor", e);
             }
         }
 
-        return sessions.stream()
-                .map(SessionDTO::new)
-                .collect(Collectors.toList());
+        // Fetch one extra row to know whether another page exists
+        List<Session> sessions = sessionRepository.search(spec, sort, trimmedKeyword, limit == UNLIMITED ? UNLIMITED : limit + 1);
+
+        String nextCursor = null;
+        if (sessions.size() > limit) {
+            sessions = sessions.subList(0, limit);
+            Session last = sessions.get(limit - 1);
+            nextCursor = sort == SearchSort.RELEVANCE
+                    ? KeysetCursor.encode(SessionSpecifications.titleRank(last, trimmedKeyword), last.getStartTime(), last.getId())
+                    : KeysetCursor.encode(null, last.getCreatedAt(), last.getId());
+        }
+
+        return new CursorPage<>(sessionDTOAssembler.toDTOs(sessions), nextCursor);
+    }
+
+    /**
+     * Pages through index hits in rank order; the cursor is a (score, id) keyset.
+     * Hits are loaded and filtered in SQL a chunk at a time, continuing until the
+     * page is full, so matches ranked below rows the filters reject are still found.
+     */
+    private <T> CursorPage<T> rankByScore(List<Hit> hits, String cursor, int limit,
+                                          Function<List<Long>, List<T>> loadMatching, Function<T, Long> idOf) {
+        int from = 0;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] parts = KeysetCursor.decode(cursor, 2);
+            double afterScore;
+            long afterId;
+            try {
+                afterScore = Double.parseDouble(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new ValidationException("Invalid cursor", e);
+            }
+            // Hits are sorted by score descending, then id; skip everything up to the cursor
+            while (from < hits.size() && (hits.get(from).getScore() > afterScore
+                    || (hits.get(from).getScore() == afterScore && hits.get(from).getId() <= afterId))) {
+                from++;
+            }
+        }
+
+        // One extra match tells whether another page exists
+        int wanted = limit == UNLIMITED ? UNLIMITED : limit + 1;
+        List<T> matches = new ArrayList<>();
+        List<Hit> matchedHits = new ArrayList<>();
+        for (int start = from; start < hits.size() && matches.size() < wanted; start += CANDIDATE_CHUNK) {
+            List<Hit> chunk = hits.subList(start, Math.min(start + CANDIDATE_CHUNK, hits.size()));
+            Map<Long, T> byId = new HashMap<>();
+            for (T item : loadMatching.apply(chunk.stream().map(Hit::getId).toList())) {
+                byId.put(idOf.apply(item), item);
+            }
+            for (Hit hit : chunk) {
+                T item = byId.get(hit.getId());
+                if (item != null && matches.size() < wanted) {
+                    matches.add(item);
+                    matchedHits.add(hit);
+                }
+            }
+        }
+
+        String nextCursor = null;
+        if (matches.size() > limit) {
+            matches = matches.subList(0, limit);
+            Hit last = matchedHits.get(limit - 1);
+            nextCursor = KeysetCursor.encode(last.getScore(), last.getId());
+        }
+        return new CursorPage<>(matches, nextCursor);
     }
 }
@@ -0,0 +1,66 @@
+package com.appdev.academeet.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.appdev.academeet.dto.SessionDTO;
+import com.appdev.academeet.dto.SessionDTO.HostInfo;
+import com.appdev.academeet.model.Session;
+import com.appdev.academeet.repository.SessionNoteRepository;
+import com.appdev.academeet.repository.SessionRepository;
+import com.appdev.academeet.repository.SessionTagRepository;
+
+/**
+ * Builds SessionDTOs for a page of sessions with a fixed number of queries:
+ * host, tags and notes are each loaded for the whole page with one
+ * id-IN projection instead of lazy-loading them row by row.
+ */
+@Component
+public class SessionDTOAssembler {
+
+    private final SessionRepository sessionRepository;
+    private final SessionTagRepository sessionTagRepository;
+    private final SessionNoteRepository sessionNoteRepository;
+
+    public SessionDTOAssembler(SessionRepository sessionRepository,
+                               SessionTagRepository sessionTagRepository,
+                               SessionNoteRepository sessionNoteRepository) {
+        this.sessionRepository = sessionRepository;
+        this.sessionTagRepository = sessionTagRepository;
+        this.sessionNoteRepository = sessionNoteRepository;
+    }
+
+    public List<SessionDTO> toDTOs(List<Session> sessions) {
+        if (sessions.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> ids = sessions.stream().map(Session::getId).toList();
+
+        Map<Long, HostInfo> hosts = new HashMap<>();
+        for (Object[] row : sessionRepository.findHostsBySessionIds(ids)) {
+            hosts.put((Long) row[0], new HostInfo((Long) row[1], (String) row[2]));
+        }
+        Map<Long, List<String>> tags = groupBySession(sessionTagRepository.findSessionIdAndTagNameBySessionIdIn(ids));
+        Map<Long, List<String>> notes = groupBySession(sessionNoteRepository.findSessionIdAndFilepathBySessionIdIn(ids));
+
+        List<SessionDTO> dtos = new ArrayList<>(sessions.size());
+        for (Session session : sessions) {
+            Long id = session.getId();
+            dtos.add(new SessionDTO(session, hosts.get(id),
+                    tags.getOrDefault(id, List.of()), notes.getOrDefault(id, List.of())));
+        }
+        return dtos;
+    }
+
+    private static Map<Long, List<String>> groupBySession(List<Object[]> rows) {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+        return grouped;
+    }
+}
@@ -1,17 +1,21 @@
 package com.appdev.academeet.service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.appdev.academeet.dto.NoteDetailsDTO;
 import com.appdev.academeet.dto.NoteUploadResponse;
+import com.appdev.academeet.event.NotesUploadedEvent;
 import com.appdev.academeet.model.Session;
 import com.appdev.academeet.model.SessionNote;
 import com.appdev.academeet.model.User;
@@ -28,22 +32,25 @@ public class SessionNoteService {
     private final SessionRepository sessionRepository;
     private final UserRepository userRepository;
     private final com.appdev.academeet.repository.SessionParticipantRepository sessionParticipantRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
     private final FileUploadService fileUploadService;
+    private final TransactionTemplate transactionTemplate;
     
     @Autowired
     public SessionNoteService(SessionNoteRepository sessionNoteRepository,
                              SessionRepository sessionRepository,
                              UserRepository userRepository,
                              com.appdev.academeet.repository.SessionParticipantRepository sessionParticipantRepository,
-                             NotificationService notificationService,
-                             FileUploadService fileUploadService) {
+                             ApplicationEventPublisher eventPublisher,
+                             FileUploadService fileUploadService,
+                             TransactionTemplate transactionTemplate) {
         this.sessionNoteRepository = sessionNoteRepository;
         this.sessionRepository = sessionRepository;
         this.userRepository = userRepository;
         this.sessionParticipantRepository = sessionParticipantRepository;
-        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
         this.fileUploadService = fileUploadService;
+        this.transactionTemplate = transactionTemplate;
     }
 
     
@@ -140,16 +147,15 @@ public class SessionNoteService {
             throw new IllegalArgumentException("Filepath cannot be empty");
         }
 
+        fileUploadService.acquire(filepath);
+
         SessionNote note = new SessionNote();
         note.setSession(session);
         note.setFilepath(filepath);
 
         SessionNote savedNote = sessionNoteRepository.save(note);
         
-        List<com.appdev.academeet.model.User> participants = sessionParticipantRepository.findBySessionId(sessionId).stream()
-                .map(com.appdev.academeet.model.SessionParticipant::getUser)
-                .collect(java.util.stream.Collectors.toList());
-        notificationService.notifyNotesUploaded(session, participants);
+        eventPublisher.publishEvent(new NotesUploadedEvent(sessionId, savedNote.getNoteId()));
         
         return savedNote;
     }
@@ -181,6 +187,7 @@ public class SessionNoteService {
         }
 
         sessionNoteRepository.delete(note);
+        fileUploadService.deleteFile(note.getFilepath());
     }
 
     public long getNoteCount(Long sessionId) {
@@ -189,7 +196,11 @@ public class SessionNoteService {
 
     @Transactional
     public void deleteAllNotesForSession(Long sessionId) {
+        List<SessionNote> notes = sessionNoteRepository.findBySession_Id(sessionId);
         sessionNoteRepository.deleteBySession_Id(sessionId);
+        for (SessionNote note : notes) {
+            fileUploadService.deleteFile(note.getFilepath());
+        }
     }
     
     @Transactional(readOnly = true)
@@ -212,17 +223,13 @@ public class SessionNoteService {
         return toDetailsDTOList(notes, session);
     }
     
-    @Transactional
     public NoteUploadResponse addNoteAndGetDTO(Long sessionId, MultipartFile file, String title, Long userId) throws IOException {
-        String relativePath = fileUploadService.uploadNoteFile(file);
-        
-        try {
-            SessionNote savedNote = addNote(sessionId, relativePath, userId);
-            return toUploadResponse(savedNote, sessionId, title);
-        } catch (RuntimeException e) {
-            fileUploadService.deleteFile(relativePath);
-            throw e;
-        }
+        return linkUploaded(sessionId, fileUploadService.uploadNoteFile(file), title, userId);
+    }
+    
+    public NoteUploadResponse addNoteAndGetDTO(Long sessionId, InputStream content, String filename,
+                                               String title, Long userId) throws IOException {
+        return linkUploaded(sessionId, fileUploadService.storeNote(content, filename), title, userId);
     }
     
     public NoteUploadResponse createUnlinkedDTO(MultipartFile file, String title) throws IOException {
@@ -230,6 +237,18 @@ public class SessionNoteService {
         return toUploadResponseUnlinked(relativePath, title);
     }
     
+    public NoteUploadResponse createUnlinkedDTO(InputStream content, String filename, String title) throws IOException {
+        String relativePath = fileUploadService.storeNote(content, filename);
+        return toUploadResponseUnlinked(relativePath, title);
+    }
+    
+    // The upload runs outside any transaction so a slow client never holds a connection; if linking
+    // fails the stored file stays unreferenced and StoredFileCleanupJob reclaims it
+    private NoteUploadResponse linkUploaded(Long sessionId, String relativePath, String title, Long userId) {
+        return transactionTemplate.execute(status ->
+                toUploadResponse(addNote(sessionId, relativePath, userId), sessionId, title));
+    }
+    
     @Transactional
     public NoteUploadResponse createLinkDTO(Long sessionId, String filepath, Long userId) {
         SessionNote sessionNote = addNote(sessionId, filepath, userId);
@@ -1,9 +1,14 @@
 package com.appdev.academeet.service;
 
+import java.time.DateTimeException;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -11,50 +16,95 @@ import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.appdev.academeet.dto.CreateSessionRequest;
+import com.appdev.academeet.dto.CursorPage;
 import com.appdev.academeet.dto.SessionDTO;
 import com.appdev.academeet.dto.UpdateSessionRequest;
+import com.appdev.academeet.event.SessionCanceledEvent;
+import com.appdev.academeet.event.SessionJoinedEvent;
+import com.appdev.academeet.event.SessionUpdatedEvent;
+import com.appdev.academeet.exception.BusinessException;
+import com.appdev.academeet.exception.ValidationException;
 import com.appdev.academeet.model.Session;
 import com.appdev.academeet.model.SessionParticipant;
 import com.appdev.academeet.model.SessionParticipantId;
 import com.appdev.academeet.model.SessionPrivacy;
 import com.appdev.academeet.model.SessionStatus;
+import com.appdev.academeet.model.SessionWaitlistEntry;
 import com.appdev.academeet.model.User;
 import com.appdev.academeet.repository.SessionParticipantRepository;
 import com.appdev.academeet.repository.SessionRepository;
+import com.appdev.academeet.repository.SessionSpecifications;
+import com.appdev.academeet.repository.SessionWaitlistRepository;
 import com.appdev.academeet.repository.UserRepository;
-import com.appdev.academeet.security.JwtUtil;
 import com.appdev.academeet.util.DateTimeUtils;
+import com.appdev.academeet.util.KeysetCursor;
+import com.appdev.academeet.util.SessionStatusCalculator;
 
 @Service
 public class SessionService {
 
     private static final Logger logger = LoggerFactory.getLogger(SessionService.class);
 
+    private static final int MAX_JOIN_ATTEMPTS = 3;
+    private static final long JOIN_RETRY_BACKOFF_MS = 50;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    // Six weeks covers any month grid
+    private static final int MAX_CALENDAR_DAYS = 42;
+
+    public enum JoinOutcome {
+        JOINED,
+        WAITLISTED
+    }
+
     private final SessionRepository sessionRepository;
     private final SessionParticipantRepository sessionParticipantRepository;
+    private final SessionWaitlistRepository waitlistRepository;
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder passwordEncoder;
     private final NotificationService notificationService;
-    private final JwtUtil jwtUtil;
+    private final SearchIndexService searchIndexService;
+    private final SessionDTOAssembler sessionDTOAssembler;
+    private final TrendingService trendingService;
+    private final TagService tagService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public SessionService(SessionRepository sessionRepository,
                           SessionParticipantRepository sessionParticipantRepository,
+                          SessionWaitlistRepository waitlistRepository,
                           UserRepository userRepository,
                           BCryptPasswordEncoder passwordEncoder,
                           NotificationService notificationService,
-                          JwtUtil jwtUtil) {
+                          SearchIndexService searchIndexService,
+                          SessionDTOAssembler sessionDTOAssembler,
+                          TrendingService trendingService,
+                          TagService tagService,
+                          ApplicationEventPublisher eventPublisher,
+                          TransactionTemplate transactionTemplate) {
         this.sessionRepository = sessionRepository;
         this.sessionParticipantRepository = sessionParticipantRepository;
+        this.waitlistRepository = waitlistRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.notificationService = notificationService;
-        this.jwtUtil = jwtUtil;
+        this.searchIndexService = searchIndexService;
+        this.sessionDTOAssembler = sessionDTOAssembler;
+        this.trendingService = trendingService;
+        this.tagService = tagService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
     }
 
     private Session mapToEntity(CreateSessionRequest request) {
@@ -114,6 +164,10 @@ public class SessionService {
     }
 
     private void validateSessionData(Session session) {
+        if (session.getStartTime() == null || session.getEndTime() == null) {
+            throw new IllegalArgumentException("Session start and end time are required");
+        }
+
         if (session.getStartTime() != null && session.getStartTime().isBefore(LocalDateTime.now())) {
             throw new IllegalArgumentException("Session start time must be in the future");
         }
@@ -161,80 +215,118 @@ public class SessionService {
         }
 
         session.setCurrentParticipants(1); 
+        tagService.registerTags(session);
+        session.setSessionStatus(SessionStatusCalculator.calculateStatus(session));
         Session saved = sessionRepository.save(session);
 
         SessionParticipant participant = new SessionParticipant(saved, host);
         sessionParticipantRepository.save(participant);
+        searchIndexService.indexSession(saved);
 
         return saved;
     }
 
+    // Legacy list endpoints keep returning every row, filtered and ordered in SQL; the /page variants are bounded
     @Transactional(readOnly = true) 
     public List<SessionDTO> getSessionsByUserId(Long userId) {
-        return sessionRepository.findByHost_Id(userId)
-                .stream()
-                .map(SessionDTO::new) 
-                .filter(dto -> {
-                    SessionStatus status = dto.getStatus();
-                    return status == SessionStatus.ACTIVE || status == SessionStatus.SCHEDULED;
-                })
-                .collect(Collectors.toList());
+        return listSessions(userSessionsSpec(userId, "hosted"), isDescendingTab("hosted"));
     }
 
     @Transactional(readOnly = true)
     public List<SessionDTO> getCompletedSessionsByUserId(Long userId) {
-        return sessionRepository.findByHost_Id(userId)
-                .stream()
-                .map(SessionDTO::new) 
-                .filter(dto -> dto.getStatus() == SessionStatus.COMPLETED)
-                .collect(Collectors.toList());
+        return listSessions(userSessionsSpec(userId, "history"), isDescendingTab("history"));
     }
 
     @Transactional(readOnly = true)
     public List<SessionDTO> getTrashedSessionsByUserId(Long userId) {
-        return sessionRepository.findByHost_Id(userId)
-                .stream()
-                .filter(session -> session.getSessionStatus() == SessionStatus.TRASH)
-                .map(SessionDTO::new)
-                .collect(Collectors.toList());
+        return listSessions(userSessionsSpec(userId, "trash"), isDescendingTab("trash"));
     }
 
     @Transactional(readOnly = true)
     public List<SessionDTO> getJoinedSessionsByUserId(Long userId) {
-        return sessionParticipantRepository.findByUserId(userId)
-                .stream()
-                .map(SessionParticipant::getSession)
-                .map(SessionDTO::new) 
-                .filter(dto -> dto.getStatus() == SessionStatus.SCHEDULED || 
-                              dto.getStatus() == SessionStatus.ACTIVE)
-                .collect(Collectors.toList());
+        return listSessions(userSessionsSpec(userId, "joined"), isDescendingTab("joined"));
     }
 
     @Transactional(readOnly = true)
     public List<SessionDTO> getPublicSessionsByUserId(Long userId) {
-        return sessionRepository.findByHost_Id(userId)
-                .stream()
-                // Show both PUBLIC and PRIVATE sessions
-                .map(SessionDTO::new)
-                .filter(dto -> {
-                    SessionStatus status = dto.getStatus();
-                    return status == SessionStatus.ACTIVE || status == SessionStatus.SCHEDULED;
-                })
-                .collect(Collectors.toList());
+        // Show both PUBLIC and PRIVATE sessions
+        return getSessionsByUserId(userId);
     }
 
     @Transactional(readOnly = true)
     public List<SessionDTO> getAllSessions() {
-        return sessionRepository.findAllByOrderByStartTime()
-            .stream()
-            .map(SessionDTO::new) 
-            .filter(dto -> {
-                SessionStatus status = dto.getStatus();
-                return status != SessionStatus.DELETED && 
-                       status != SessionStatus.TRASH &&
-                       status != SessionStatus.COMPLETED;
-            })
-            .collect(Collectors.toList());
+        return listSessions(SessionSpecifications.hasStatusIn(SessionStatus.LIVE), false);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<SessionDTO> getAllSessionsPage(String cursor, Integer size) {
+        return pageSessions(SessionSpecifications.hasStatusIn(SessionStatus.LIVE), false, cursor, size);
+    }
+
+    // Upcoming statuses page soonest first, finished ones most recent first
+    @Transactional(readOnly = true)
+    public CursorPage<SessionDTO> getSessionsByStatusPage(SessionStatus status, String cursor, Integer size) {
+        return pageSessions(SessionSpecifications.hasStatus(status), !SessionStatus.LIVE.contains(status), cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<SessionDTO> getUserSessionsPage(Long userId, String tab, String cursor, Integer size) {
+        return pageSessions(userSessionsSpec(userId, tab), isDescendingTab(tab), cursor, size);
+    }
+
+    private Specification<Session> userSessionsSpec(Long userId, String tab) {
+        switch (tab == null ? "hosted" : tab.toLowerCase()) {
+            case "hosted":
+                return SessionSpecifications.hostedBy(userId).and(SessionSpecifications.hasStatusIn(SessionStatus.LIVE));
+            case "history":
+                return SessionSpecifications.hostedBy(userId).and(SessionSpecifications.hasStatus(SessionStatus.COMPLETED));
+            case "trash":
+                return SessionSpecifications.hostedBy(userId).and(SessionSpecifications.hasStatus(SessionStatus.TRASH));
+            case "joined":
+                return SessionSpecifications.joinedBy(userId).and(SessionSpecifications.hasStatusIn(SessionStatus.LIVE));
+            default:
+                throw new ValidationException("Invalid tab: " + tab);
+        }
+    }
+
+    // Upcoming tabs run soonest first, history and trash most recent first
+    private static boolean isDescendingTab(String tab) {
+        return "history".equalsIgnoreCase(tab) || "trash".equalsIgnoreCase(tab);
+    }
+
+    private List<SessionDTO> listSessions(Specification<Session> spec, boolean descending) {
+        return sessionDTOAssembler.toDTOs(sessionRepository.findOrdered(spec, descending));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<SessionDTO> getSessionsByTagPage(String tagName, String cursor, Integer size) {
+        return tagService.findByName(tagName)
+                .map(tag -> pageSessions(SessionSpecifications.hasTag(tag.getId())
+                        .and(SessionSpecifications.hasStatusIn(SessionStatus.LIVE)), false, cursor, size))
+                .orElseGet(() -> new CursorPage<>(new ArrayList<>(), null));
+    }
+
+    private CursorPage<SessionDTO> pageSessions(Specification<Session> spec, boolean descending, String cursor, Integer size) {
+        int limit = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] parts = KeysetCursor.decode(cursor, 2);
+            try {
+                spec = spec.and(SessionSpecifications.startsAfterCursor(
+                        LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]), descending));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new ValidationException("Invalid cursor", e);
+            }
+        }
+
+        // Fetch one extra row to know whether another page exists
+        List<Session> sessions = sessionRepository.findPage(spec, descending, limit + 1);
+        String nextCursor = null;
+        if (sessions.size() > limit) {
+            sessions = sessions.subList(0, limit);
+            Session last = sessions.get(limit - 1);
+            nextCursor = KeysetCursor.encode(last.getStartTime(), last.getId());
+        }
+        return new CursorPage<>(sessionDTOAssembler.toDTOs(sessions), nextCursor);
     }
 
     public void validateSessionPassword(Long sessionId, String password) {
@@ -261,17 +353,37 @@ public class SessionService {
         
     }
 
-    @Transactional
-    public void joinSession(Long sessionId, User user) {
-        joinSession(sessionId, user, null);
+    public JoinOutcome joinSession(Long sessionId, User user) {
+        return joinSession(sessionId, user, null);
     }
 
-    @Transactional
-    public void joinSession(Long sessionId, User user, String password) {
-        
+    // Retries only lock contention (deadlock/lock wait timeout) on the seat row; business errors surface at once
+    public JoinOutcome joinSession(Long sessionId, User user, String password) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> doJoinSession(sessionId, user, password));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= MAX_JOIN_ATTEMPTS) {
+                    throw new BusinessException("Session is busy, please try again");
+                }
+                logger.debug("Join contention on session {} (attempt {}): {}", sessionId, attempt, e.getMessage());
+                try {
+                    Thread.sleep(JOIN_RETRY_BACKOFF_MS * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new BusinessException("Join interrupted");
+                }
+            }
+        }
+    }
+
+    private JoinOutcome doJoinSession(Long sessionId, User user, String password) {
         if (sessionParticipantRepository.existsBySessionIdAndUserId(sessionId, user.getId())) {
             throw new RuntimeException("User has already joined this session");
         }
+        if (waitlistRepository.existsBySessionIdAndUserId(sessionId, user.getId())) {
+            throw new RuntimeException("User is already on the waitlist for this session");
+        }
 
         Session session = sessionRepository.findById(sessionId)
             .orElseThrow(() -> new RuntimeException("Session not found"));
@@ -283,21 +395,72 @@ public class SessionService {
             validateSessionPassword(sessionId, password); 
         }
 
-        Integer maxParticipants = session.getMaxParticipants();
-        Integer currentParticipants = session.getCurrentParticipants();
-        
-        if (maxParticipants != null && currentParticipants >= maxParticipants) {
-            throw new RuntimeException("Session is full");
+        if (!SessionStatus.LIVE.contains(session.getSessionStatus())) {
+            throw new BusinessException("Session is no longer open for joining");
         }
 
-        SessionParticipant participant = new SessionParticipant(session, user);
-        sessionParticipantRepository.save(participant);
-        session.setCurrentParticipants(currentParticipants + 1);
-        sessionRepository.save(session);
-        notificationService.createRemindersForSession(user, session);
-        
-        notificationService.notifyJoinConfirmation(user, session);
-        notificationService.notifyParticipantJoined(user, session);
+        // Full sessions queue the user instead of failing, so clients don't have to poll for a seat
+        if (sessionRepository.tryReserveSeat(sessionId) == 0) {
+            try {
+                waitlistRepository.saveAndFlush(new SessionWaitlistEntry(session, user));
+            } catch (DataIntegrityViolationException e) {
+                throw new RuntimeException("User is already on the waitlist for this session");
+            }
+            return JoinOutcome.WAITLISTED;
+        }
+
+        // A concurrent duplicate join hits the primary key; the seat claimed above rolls back with it
+        try {
+            sessionParticipantRepository.saveAndFlush(new SessionParticipant(session, user));
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("User has already joined this session");
+        }
+        eventPublisher.publishEvent(new SessionJoinedEvent(sessionId, user.getId()));
+        return JoinOutcome.JOINED;
+    }
+
+    @Transactional
+    public void leaveWaitlist(Long sessionId, Long userId) {
+        SessionWaitlistEntry entry = waitlistRepository.findBySessionIdAndUserId(sessionId, userId)
+            .orElseThrow(() -> new RuntimeException("User is not on the waitlist for this session"));
+        waitlistRepository.delete(entry);
+    }
+
+    // 1-based position of the user in the queue, or 0 when not waitlisted
+    @Transactional(readOnly = true)
+    public Map<String, Long> getWaitlistStatus(Long sessionId, Long userId) {
+        long position = waitlistRepository.findBySessionIdAndUserId(sessionId, userId)
+            .map(entry -> waitlistRepository.countAheadOrAt(sessionId, entry.getId()))
+            .orElse(0L);
+        return Map.of("position", position, "size", waitlistRepository.countBySessionId(sessionId));
+    }
+
+    /**
+     * Moves waitlisted users into free seats in FIFO order. Runs inside the
+     * transaction that freed the seat(s): the seat is claimed with the same
+     * conditional update as a direct join and the queue head is row-locked,
+     * so a seat is never handed out twice.
+     */
+    private void promoteFromWaitlist(Long sessionId) {
+        while (waitlistRepository.existsBySessionId(sessionId)) {
+            if (sessionRepository.tryReserveSeat(sessionId) == 0) {
+                return;
+            }
+            List<SessionWaitlistEntry> head = waitlistRepository.findHeadForUpdate(sessionId, PageRequest.of(0, 1));
+            if (head.isEmpty()) {
+                sessionRepository.releaseSeat(sessionId);
+                return;
+            }
+            SessionWaitlistEntry entry = head.get(0);
+            Session session = entry.getSession();
+            if (!SessionStatus.LIVE.contains(session.getSessionStatus())) {
+                sessionRepository.releaseSeat(sessionId);
+                return;
+            }
+            waitlistRepository.delete(entry);
+            sessionParticipantRepository.save(new SessionParticipant(session, entry.getUser()));
+            eventPublisher.publishEvent(new SessionJoinedEvent(sessionId, entry.getUser().getId(), true));
+        }
     }
 
     @Transactional
@@ -309,14 +472,11 @@ public class SessionService {
         sessionParticipantRepository.delete(participant);
         notificationService.deleteRemindersForUserSession(user.getId(), sessionId);
 
-        Session session = sessionRepository.findById(sessionId)
-            .orElseThrow(() -> new RuntimeException("Session not found"));
-        
-        Integer currentParticipants = session.getCurrentParticipants();
-        if (currentParticipants > 0) {
-            session.setCurrentParticipants(currentParticipants - 1);
-            sessionRepository.save(session);
+        if (!sessionRepository.existsById(sessionId)) {
+            throw new RuntimeException("Session not found");
         }
+        sessionRepository.releaseSeat(sessionId);
+        promoteFromWaitlist(sessionId);
     }
 
     @Transactional
@@ -352,6 +512,12 @@ public class SessionService {
         
         session.setSessionStatus(newStatus);
         sessionRepository.save(session);
+        // Nobody can be promoted into a finished session, and a restored one starts with an empty queue
+        if (!SessionStatus.LIVE.contains(newStatus)) {
+            waitlistRepository.deleteBySessionId(sessionId);
+        }
+        // Trashed, deleted and completed sessions drop out of search
+        searchIndexService.indexSession(session);
     }
 
     @Transactional
@@ -365,11 +531,10 @@ public class SessionService {
 
         session.setSessionStatus(SessionStatus.COMPLETED);
         sessionRepository.save(session);
+        waitlistRepository.deleteBySessionId(sessionId);
+        searchIndexService.indexSession(session);
         
-        List<User> participants = sessionParticipantRepository.findBySessionId(sessionId).stream()
-                .map(SessionParticipant::getUser)
-                .collect(Collectors.toList());
-        notificationService.notifySessionCanceled(session, participants);
+        eventPublisher.publishEvent(new SessionCanceledEvent(sessionId));
     }
 
     @Transactional
@@ -415,19 +580,27 @@ public class SessionService {
         if (updatedSession.getSessionPrivacy() != null) {
             existingSession.setSessionPrivacy(updatedSession.getSessionPrivacy());
         }
+        boolean capacityRaised = updatedSession.getMaxParticipants() != null
+                && existingSession.getMaxParticipants() != null
+                && updatedSession.getMaxParticipants() > existingSession.getMaxParticipants();
         if (updatedSession.getMaxParticipants() != null) {
             existingSession.setMaxParticipants(updatedSession.getMaxParticipants());
         }
 
+        boolean startTimeChanged = updatedSession.getStartTime() != null
+                && !updatedSession.getStartTime().equals(existingSession.getStartTime());
         if (updatedSession.getStartTime() != null) {
             existingSession.setStartTime(updatedSession.getStartTime());
         }
         if (updatedSession.getEndTime() != null) {
             existingSession.setEndTime(updatedSession.getEndTime());
         }
+        if (SessionStatus.LIVE.contains(existingSession.getSessionStatus())) {
+            existingSession.setSessionStatus(SessionStatusCalculator.calculateStatus(existingSession));
+        }
 
         if (updatedSession.getTags() != null) {
-            existingSession.setTags(updatedSession.getTags());
+            tagService.applyTags(existingSession, updatedSession.getTags());
         }
 
         if (updatedSession.getSessionPassword() != null && !updatedSession.getSessionPassword().isEmpty()) {
@@ -435,22 +608,20 @@ public class SessionService {
         }
 
         existingSession.setUpdatedAt(LocalDateTime.now());
-        Session savedSession = sessionRepository.save(existingSession);
+        Session savedSession = sessionRepository.saveAndFlush(existingSession);
+        searchIndexService.indexSession(savedSession);
+        if (capacityRaised) {
+            promoteFromWaitlist(savedSession.getId());
+        }
         
-        List<User> participants = sessionParticipantRepository.findBySessionId(sessionId).stream()
-                .map(SessionParticipant::getUser)
-                .collect(Collectors.toList());
-        notificationService.notifySessionUpdated(savedSession, participants);
+        eventPublisher.publishEvent(new SessionUpdatedEvent(savedSession.getId(), startTimeChanged));
         
         return savedSession;
     }
 
+    @Transactional(readOnly = true)
     public List<SessionDTO> getSessionsByStatus(SessionStatus status) {
-        return sessionRepository.findAll()
-                .stream()
-                .filter(session -> session.getSessionStatus() == status)
-                .map(SessionDTO::new)
-                .collect(Collectors.toList());
+        return listSessions(SessionSpecifications.hasStatus(status), !SessionStatus.LIVE.contains(status));
     }
 
     @Transactional(readOnly = true)
@@ -468,13 +639,12 @@ public class SessionService {
             
             logger.debug("Searching for sessions on date: {}-{}-{}", yearInt, monthInt, dayInt);
             
-            List<Session> sessions = sessionRepository.findByYearMonthDay(yearInt, monthInt, dayInt);
+            LocalDate date = LocalDate.of(yearInt, monthInt, dayInt);
+            List<Session> sessions = sessionRepository.findStartingBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
             logger.debug("Found {} sessions for the specified date", sessions.size());
             
-            return sessions.stream()
-                    .map(SessionDTO::new)
-                    .collect(Collectors.toList());
-        } catch (IllegalArgumentException e) {
+            return sessionDTOAssembler.toDTOs(sessions);
+        } catch (IllegalArgumentException | DateTimeException e) {
             logger.error("Invalid date format: year={}, month={}, day={}", year, month, day, e);
             return new ArrayList<>();
         }
@@ -482,12 +652,34 @@ public class SessionService {
 
 
 
+    /**
+     * Sessions starting on each day of [from, to], keyed by ISO date with
+     * empty days included, from a single range scan on start_time.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, List<SessionDTO>> getCalendar(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new ValidationException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_CALENDAR_DAYS) {
+            throw new ValidationException("Calendar range cannot exceed " + MAX_CALENDAR_DAYS + " days");
+        }
+
+        Map<String, List<SessionDTO>> days = new LinkedHashMap<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            days.put(day.toString(), new ArrayList<>());
+        }
+        List<Session> sessions = sessionRepository.findStartingBetween(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        List<SessionDTO> dtos = sessionDTOAssembler.toDTOs(sessions);
+        for (int i = 0; i < sessions.size(); i++) {
+            days.get(sessions.get(i).getStartTime().toLocalDate().toString()).add(dtos.get(i));
+        }
+        return days;
+    }
+
     @Transactional(readOnly = true)
     public List<SessionDTO> getTrendingSessions() {
-        List<Session> trending = sessionRepository.findTrendingSessions(PageRequest.of(0, 4));
-        return trending.stream()
-                .map(SessionDTO::new)
-                .collect(Collectors.toList());
+        return trendingService.getTrendingSessions(4);
     }
 
     @Transactional(readOnly = true)
@@ -506,7 +698,7 @@ public class SessionService {
                     userMap.put("name", user.getName());
                     userMap.put("email", user.getEmail());
                     userMap.put("program", user.getProgram());
-                    userMap.put("profilePic", user.getProfileImageUrl());
+                    userMap.put("profilePic", user.getAvatarUrl());
                     userMap.put("joinedAt", sp.getJoinedAt());
                     userMap.put("isHost", user.getId().equals(session.getHost().getId()));
                     return userMap;
@@ -515,20 +707,15 @@ public class SessionService {
     }
 
     @Transactional
-    public Map<String, String> removeParticipant(Long sessionId, Long userId, String token) {
-        String jwt = token.replace("Bearer ", "");
-        String email = jwtUtil.getEmailFromToken(jwt);
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
+    public Map<String, String> removeParticipant(Long sessionId, Long userId, Long currentUserId) {
         Session session = sessionRepository.findById(sessionId)
                 .orElseThrow(() -> new RuntimeException("Session not found"));
         
-        if (!session.getHost().getId().equals(currentUser.getId())) {
+        if (!session.getHost().getId().equals(currentUserId)) {
             throw new RuntimeException("Only the host can remove participants");
         }
         
-        if (userId.equals(currentUser.getId())) {
+        if (userId.equals(currentUserId)) {
             throw new RuntimeException("Host cannot be removed from the session");
         }
         
@@ -537,8 +724,8 @@ public class SessionService {
                 .orElseThrow(() -> new RuntimeException("User is not a participant of this session"));
         
         sessionParticipantRepository.delete(participant);
-        session.setCurrentParticipants(session.getCurrentParticipants() - 1);
-        sessionRepository.save(session);
+        sessionRepository.releaseSeat(sessionId);
+        promoteFromWaitlist(sessionId);
         
         return Map.of("message", "Participant removed successfully");
     }
@@ -0,0 +1,70 @@
+package com.appdev.academeet.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.appdev.academeet.repository.SessionRepository;
+import com.appdev.academeet.util.SessionStatusCalculator;
+
+/**
+ * Keeps the stored session_status in step with start/end times so list
+ * and search queries can filter by status in SQL. Each pass is three
+ * index-driven bulk updates; the first pass at startup backfills rows
+ * written before statuses were materialized. Completed sessions are
+ * dropped from the search index once the pass commits.
+ */
+@Component
+public class SessionStatusTransitionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionStatusTransitionJob.class);
+
+    private final SessionRepository sessionRepository;
+    private final SearchIndexService searchIndexService;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    public SessionStatusTransitionJob(SessionRepository sessionRepository,
+                                      SearchIndexService searchIndexService,
+                                      TransactionTemplate transactionTemplate,
+                                      Clock clock) {
+        this.sessionRepository = sessionRepository;
+        this.searchIndexService = searchIndexService;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        transition();
+    }
+
+    @Scheduled(fixedDelayString = "${academeet.sessions.status-transition-ms:30000}",
+               initialDelayString = "${academeet.sessions.status-transition-ms:30000}")
+    public void transition() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime openEndedBefore = now.minus(SessionStatusCalculator.DEFAULT_DURATION);
+        int[] counts = transactionTemplate.execute(status -> {
+            int rescheduledCount = sessionRepository.rescheduleNotStarted(now);
+            int activatedCount = sessionRepository.activateStarted(now, openEndedBefore);
+            List<Long> ended = sessionRepository.findEndedLiveIds(now, openEndedBefore);
+            int completedCount = ended.isEmpty() ? 0 : sessionRepository.completeByIds(ended);
+            searchIndexService.removeSessions(ended);
+            return new int[] { rescheduledCount, activatedCount, completedCount };
+        });
+        int rescheduled = counts[0];
+        int activated = counts[1];
+        int completed = counts[2];
+        if (rescheduled + activated + completed > 0) {
+            logger.info("Session statuses updated: {} scheduled, {} active, {} completed", rescheduled, activated, completed);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.appdev.academeet.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.appdev.academeet.repository.StoredFileRepository;
+
+/**
+ * Repairs stored_file reference counts from session_note, then deletes
+ * content-addressed uploads that nothing has linked for the retention
+ * period (uploads never attached to a session, or whose link failed).
+ */
+@Component
+public class StoredFileCleanupJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(StoredFileCleanupJob.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private final StoredFileRepository storedFileRepository;
+    private final FileUploadService fileUploadService;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final long retentionHours;
+
+    public StoredFileCleanupJob(StoredFileRepository storedFileRepository,
+                                FileUploadService fileUploadService,
+                                TransactionTemplate transactionTemplate,
+                                Clock clock,
+                                @Value("${academeet.files.unlinked-retention-hours:24}") long retentionHours) {
+        this.storedFileRepository = storedFileRepository;
+        this.fileUploadService = fileUploadService;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.retentionHours = retentionHours;
+    }
+
+    @Scheduled(cron = "${academeet.files.cleanup-cron:0 15 4 * * *}")
+    public void cleanup() {
+        Integer reconciled = transactionTemplate.execute(status -> storedFileRepository.reconcileRefCounts());
+
+        LocalDateTime cutoff = LocalDateTime.now(clock).minusHours(retentionHours);
+        int purged = 0;
+        List<String> paths;
+        do {
+            paths = storedFileRepository.findUnreferencedBefore(cutoff, PageRequest.of(0, BATCH_SIZE));
+            int purgedInBatch = 0;
+            for (String path : paths) {
+                if (fileUploadService.purgeIfUnreferenced(path)) {
+                    purgedInBatch++;
+                }
+            }
+            purged += purgedInBatch;
+            // Rows re-linked in the meantime stay in the result; stop rather than spin on them
+            if (purgedInBatch == 0) {
+                break;
+            }
+        } while (paths.size() == BATCH_SIZE);
+
+        if ((reconciled != null && reconciled > 0) || purged > 0) {
+            logger.info("Stored files: {} reference counts repaired, {} unreferenced files removed", reconciled, purged);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.appdev.academeet.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.appdev.academeet.dto.TagDTO;
+import com.appdev.academeet.model.Session;
+import com.appdev.academeet.model.SessionTag;
+import com.appdev.academeet.model.Tag;
+import com.appdev.academeet.repository.SessionTagRepository;
+import com.appdev.academeet.repository.TagRepository;
+import com.appdev.academeet.util.TagTrie;
+import com.appdev.academeet.util.TransactionUtils;
+
+/**
+ * Tag dictionary: interns tag names to ids, keeps per-tag usage counts and
+ * serves autocomplete from an in-memory trie. Usage counts move with session
+ * writes and are reconciled against session_tag on a schedule.
+ */
+@Service
+public class TagService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagService.class);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_TAG_LENGTH = 50;
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+    private static final int DEFAULT_SUGGESTIONS = 10;
+    private static final int MAX_SUGGESTIONS = 50;
+
+    private final TagRepository tagRepository;
+    private final SessionTagRepository sessionTagRepository;
+    private final TransactionTemplate transactionTemplate;
+    // Swapped wholesale on rebuild so readers never see a half-built trie
+    private volatile TagTrie trie = new TagTrie();
+
+    public TagService(TagRepository tagRepository,
+                      SessionTagRepository sessionTagRepository,
+                      TransactionTemplate transactionTemplate) {
+        this.tagRepository = tagRepository;
+        this.sessionTagRepository = sessionTagRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // Null for blank input
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String normalized = WHITESPACE.matcher(raw.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        return normalized.length() > MAX_TAG_LENGTH ? normalized.substring(0, MAX_TAG_LENGTH) : normalized;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long started = System.currentTimeMillis();
+        int linked = backfillLinks();
+        reconcile();
+        logger.info("Tag dictionary ready: linked {} legacy session tags in {} ms", linked, System.currentTimeMillis() - started);
+    }
+
+    @Scheduled(cron = "${academeet.tags.reconcile-cron:0 45 3 * * *}")
+    public void reconcile() {
+        Integer drifted = transactionTemplate.execute(status -> tagRepository.reconcileUsageCounts());
+        if (drifted != null && drifted > 0) {
+            logger.info("Tag usage counts reconciled for {} tags", drifted);
+        }
+        rebuildTrie();
+    }
+
+    /**
+     * Links the tags of a session that is about to be created and counts
+     * one use per distinct tag.
+     */
+    @Transactional
+    public void registerTags(Session session) {
+        adjustUsage(link(session), Set.of());
+    }
+
+    /**
+     * Replaces the tags of an existing session and moves usage counts for
+     * the tags that were added or removed.
+     */
+    @Transactional
+    public void applyTags(Session session, List<String> tagNames) {
+        Set<Long> before = link(session);
+        session.setTags(tagNames);
+        adjustUsage(link(session), before);
+    }
+
+    public Optional<Tag> findByName(String name) {
+        String normalized = normalize(name);
+        return normalized == null ? Optional.empty() : tagRepository.findByName(normalized);
+    }
+
+    public List<TagDTO> suggest(String prefix, Integer limit) {
+        String normalized = normalize(prefix);
+        if (normalized == null) {
+            return List.of();
+        }
+        int max = limit == null ? DEFAULT_SUGGESTIONS : Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        return trie.suggest(normalized, max).stream()
+                .map(s -> new TagDTO(s.getId(), s.getName(), s.getUsageCount()))
+                .toList();
+    }
+
+    // Links every unlinked SessionTag of the session and returns the tag ids in use
+    private Set<Long> link(Session session) {
+        Map<String, List<SessionTag>> unlinked = new HashMap<>();
+        for (SessionTag sessionTag : session.getSessionTags()) {
+            String normalized = normalize(sessionTag.getTagName());
+            if (sessionTag.getTag() == null && normalized != null) {
+                unlinked.computeIfAbsent(normalized, k -> new ArrayList<>()).add(sessionTag);
+            }
+        }
+        if (!unlinked.isEmpty()) {
+            Map<String, Tag> tags = intern(unlinked.keySet());
+            unlinked.forEach((name, rows) -> rows.forEach(row -> row.setTag(tags.get(name))));
+        }
+
+        Set<Long> ids = new HashSet<>();
+        for (SessionTag sessionTag : session.getSessionTags()) {
+            if (sessionTag.getTag() != null) {
+                ids.add(sessionTag.getTag().getId());
+            }
+        }
+        return ids;
+    }
+
+    private Map<String, Tag> intern(Collection<String> names) {
+        Map<String, Tag> tags = new HashMap<>();
+        for (Tag tag : tagRepository.findByNameIn(names)) {
+            tags.put(tag.getName(), tag);
+        }
+        List<String> missing = names.stream().filter(name -> !tags.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            missing.forEach(tagRepository::insertIfAbsent);
+            for (Tag tag : tagRepository.findByNameIn(missing)) {
+                tags.put(tag.getName(), tag);
+                TransactionUtils.afterCommit(() -> trie.put(tag.getId(), tag.getName(), 0));
+            }
+        }
+        return tags;
+    }
+
+    private void adjustUsage(Set<Long> after, Set<Long> before) {
+        Map<Long, Long> deltas = new HashMap<>();
+        after.stream().filter(id -> !before.contains(id)).forEach(id -> deltas.put(id, 1L));
+        before.stream().filter(id -> !after.contains(id)).forEach(id -> deltas.put(id, -1L));
+        deltas.forEach(tagRepository::adjustUsageCount);
+        if (!deltas.isEmpty()) {
+            TransactionUtils.afterCommit(() -> deltas.forEach(trie::adjustCount));
+        }
+    }
+
+    // Links session_tag rows written before the dictionary existed, one chunk per transaction
+    private int backfillLinks() {
+        int linked = 0;
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            long[] chunk = transactionTemplate.execute(status -> {
+                List<SessionTag> rows = sessionTagRepository.findUnlinkedAfter(cursor, PageRequest.of(0, BACKFILL_CHUNK_SIZE));
+                if (rows.isEmpty()) {
+                    return new long[] {0, 0};
+                }
+                Map<String, List<SessionTag>> byName = new HashMap<>();
+                int count = 0;
+                for (SessionTag row : rows) {
+                    String normalized = normalize(row.getTagName());
+                    if (normalized != null) {
+                        byName.computeIfAbsent(normalized, k -> new ArrayList<>()).add(row);
+                        count++;
+                    }
+                }
+                if (!byName.isEmpty()) {
+                    Map<String, Tag> tags = intern(byName.keySet());
+                    byName.forEach((name, group) -> group.forEach(row -> row.setTag(tags.get(name))));
+                }
+                return new long[] {rows.get(rows.size() - 1).getTagId(), count};
+            });
+            if (chunk == null || chunk[0] == 0) {
+                return linked;
+            }
+            linked += (int) chunk[1];
+            afterId = chunk[0];
+        }
+    }
+
+    private void rebuildTrie() {
+        TagTrie rebuilt = new TagTrie();
+        for (Object[] row : tagRepository.findAllForIndex()) {
+            rebuilt.put((Long) row[0], (String) row[1], (Long) row[2]);
+        }
+        trie = rebuilt;
+    }
+}
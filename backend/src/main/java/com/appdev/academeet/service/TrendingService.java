@@ -0,0 +1,314 @@
+package com.appdev.academeet.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.appdev.academeet.dto.SessionDTO;
+import com.appdev.academeet.event.CommentPostedEvent;
+import com.appdev.academeet.event.SessionCanceledEvent;
+import com.appdev.academeet.event.SessionJoinedEvent;
+import com.appdev.academeet.model.Session;
+import com.appdev.academeet.model.SessionStatus;
+import com.appdev.academeet.model.SessionTrendingScore;
+import com.appdev.academeet.repository.CommentRepository;
+import com.appdev.academeet.repository.SessionParticipantRepository;
+import com.appdev.academeet.repository.SessionRepository;
+import com.appdev.academeet.repository.SessionTagRepository;
+import com.appdev.academeet.repository.TrendingScoreRepository;
+
+/**
+ * In-memory trending ranking for live sessions. Joins and comments add
+ * exponentially decaying weight as they commit; tag popularity adds a
+ * boost refreshed on every checkpoint.
+ *
+ * Scores are stored scaled to a reference epoch (weight * 2^(age/halfLife)),
+ * so decay never reorders sessions and nothing has to be rescanned between
+ * events. The checkpoint rebases the epoch, drops sessions that are no
+ * longer live and persists the decayed scores so a restart resumes the
+ * ranking instead of starting cold.
+ */
+@Service
+public class TrendingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendingService.class);
+
+    private static final double JOIN_WEIGHT = 3.0;
+    private static final double COMMENT_WEIGHT = 1.0;
+    private static final double TAG_WEIGHT = 0.5;
+    private static final int TOP_K = 20;
+
+    private static final class Ranked {
+        private final long sessionId;
+        private final double score;
+
+        private Ranked(long sessionId, double score) {
+            this.sessionId = sessionId;
+            this.score = score;
+        }
+    }
+
+    private static final Comparator<Ranked> RANK_ORDER = Comparator.<Ranked>comparingDouble(r -> r.score)
+            .reversed()
+            .thenComparingLong(r -> r.sessionId);
+
+    private static final class Snapshot {
+        private final List<Long> ids;
+        private final List<SessionDTO> sessions;
+        private final long builtAtMillis;
+
+        private Snapshot(List<Long> ids, List<SessionDTO> sessions, long builtAtMillis) {
+            this.ids = ids;
+            this.sessions = sessions;
+            this.builtAtMillis = builtAtMillis;
+        }
+    }
+
+    private final SessionRepository sessionRepository;
+    private final SessionParticipantRepository sessionParticipantRepository;
+    private final CommentRepository commentRepository;
+    private final SessionTagRepository sessionTagRepository;
+    private final TrendingScoreRepository trendingScoreRepository;
+    private final SessionDTOAssembler sessionDTOAssembler;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final double halfLifeMillis;
+    private final long snapshotTtlMillis;
+
+    // Guarded by this; all scores are in epoch-scaled units (tag boosts are set at the epoch, so they decay too)
+    private final Map<Long, Double> activity = new HashMap<>();
+    private final Map<Long, Double> tagBoost = new HashMap<>();
+    private final Map<Long, Ranked> ranked = new HashMap<>();
+    private final TreeSet<Ranked> ranking = new TreeSet<>(RANK_ORDER);
+    private long epochMillis;
+
+    private volatile List<Long> topIds = List.of();
+    private volatile Snapshot snapshot;
+
+    public TrendingService(SessionRepository sessionRepository,
+                           SessionParticipantRepository sessionParticipantRepository,
+                           CommentRepository commentRepository,
+                           SessionTagRepository sessionTagRepository,
+                           TrendingScoreRepository trendingScoreRepository,
+                           SessionDTOAssembler sessionDTOAssembler,
+                           TransactionTemplate transactionTemplate,
+                           Clock clock,
+                           @Value("${academeet.trending.half-life-hours:24}") long halfLifeHours,
+                           @Value("${academeet.trending.snapshot-ttl-ms:15000}") long snapshotTtlMillis) {
+        this.sessionRepository = sessionRepository;
+        this.sessionParticipantRepository = sessionParticipantRepository;
+        this.commentRepository = commentRepository;
+        this.sessionTagRepository = sessionTagRepository;
+        this.trendingScoreRepository = trendingScoreRepository;
+        this.sessionDTOAssembler = sessionDTOAssembler;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.halfLifeMillis = Duration.ofHours(halfLifeHours).toMillis();
+        this.snapshotTtlMillis = snapshotTtlMillis;
+        this.epochMillis = clock.millis();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long now = clock.millis();
+        List<SessionTrendingScore> checkpoint = trendingScoreRepository.findAll();
+        Map<Long, Double> restored = new HashMap<>();
+        if (!checkpoint.isEmpty()) {
+            for (SessionTrendingScore row : checkpoint) {
+                long checkpointedAt = row.getCheckpointedAt().atZone(clock.getZone()).toInstant().toEpochMilli();
+                restored.put(row.getSessionId(), row.getScore() * decay(now - checkpointedAt));
+            }
+        } else {
+            // No checkpoint yet: seed from lifetime join/comment counts of live sessions
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> liveIds = sessionRepository.findIdsByStatusIn(SessionStatus.LIVE);
+                if (liveIds.isEmpty()) {
+                    return;
+                }
+                for (Object[] row : sessionParticipantRepository.countBySessionIdIn(liveIds)) {
+                    restored.merge((Long) row[0], JOIN_WEIGHT * (Long) row[1], Double::sum);
+                }
+                for (Object[] row : commentRepository.countBySessionIdIn(liveIds)) {
+                    restored.merge((Long) row[0], COMMENT_WEIGHT * (Long) row[1], Double::sum);
+                }
+            });
+        }
+
+        synchronized (this) {
+            epochMillis = now;
+            activity.clear();
+            activity.putAll(restored);
+        }
+        refresh();
+        logger.info("Trending scores loaded for {} sessions ({})", restored.size(),
+                checkpoint.isEmpty() ? "seeded" : "checkpoint");
+    }
+
+    @Scheduled(fixedDelayString = "${academeet.trending.checkpoint-ms:300000}",
+               initialDelayString = "${academeet.trending.checkpoint-ms:300000}")
+    public void checkpoint() {
+        Map<Long, Double> scores = refresh();
+        trendingScoreRepository.replaceAll(scores, LocalDateTime.now(clock));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionJoined(SessionJoinedEvent event) {
+        record(event.getSessionId(), JOIN_WEIGHT);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentPosted(CommentPostedEvent event) {
+        record(event.getSessionId(), COMMENT_WEIGHT);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionCanceled(SessionCanceledEvent event) {
+        synchronized (this) {
+            activity.remove(event.getSessionId());
+            tagBoost.remove(event.getSessionId());
+            rerank(event.getSessionId());
+            publishTopIds();
+        }
+    }
+
+    /**
+     * Top sessions by current score. DTOs are rebuilt only when the ranking
+     * changes or the snapshot is older than its TTL, so most calls are served
+     * straight from memory.
+     */
+    public List<SessionDTO> getTrendingSessions(int limit) {
+        List<Long> ids = topIds.stream().limit(limit).toList();
+        Snapshot current = snapshot;
+        long now = clock.millis();
+        if (current != null && current.ids.equals(ids) && now - current.builtAtMillis < snapshotTtlMillis) {
+            return current.sessions;
+        }
+
+        Map<Long, Session> byId = sessionRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Session::getId, Function.identity()));
+        List<Session> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Session session = byId.get(id);
+            if (session != null) {
+                ordered.add(session);
+            }
+        }
+        List<SessionDTO> sessions = List.copyOf(sessionDTOAssembler.toDTOs(ordered));
+        snapshot = new Snapshot(ids, sessions, now);
+        return sessions;
+    }
+
+    private synchronized void record(Long sessionId, double weight) {
+        activity.merge(sessionId, weight * grow(clock.millis() - epochMillis), Double::sum);
+        rerank(sessionId);
+        publishTopIds();
+    }
+
+    /**
+     * Rebases scores to now, drops sessions that are no longer live and
+     * recomputes tag boosts. Returns the decayed activity scores to persist.
+     */
+    private Map<Long, Double> refresh() {
+        Map<Long, Double> boosts = new HashMap<>();
+        Set<Long> live = new HashSet<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            live.addAll(sessionRepository.findIdsByStatusIn(SessionStatus.LIVE));
+            if (live.isEmpty()) {
+                return;
+            }
+            // Tag popularity is the dictionary usage count, so nothing is re-aggregated here
+            Map<Long, Long> popularity = new HashMap<>();
+            for (Object[] row : sessionTagRepository.findSessionIdAndTagUsageBySessionIdIn(live)) {
+                popularity.merge((Long) row[0], (Long) row[1], Long::sum);
+            }
+            for (Map.Entry<Long, Long> entry : popularity.entrySet()) {
+                boosts.put(entry.getKey(), TAG_WEIGHT * Math.log1p(entry.getValue()));
+            }
+        });
+
+        synchronized (this) {
+            long now = clock.millis();
+            double factor = decay(now - epochMillis);
+            epochMillis = now;
+
+            Map<Long, Double> persisted = new HashMap<>();
+            Iterator<Map.Entry<Long, Double>> it = activity.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Long, Double> entry = it.next();
+                if (!live.contains(entry.getKey())) {
+                    it.remove();
+                    continue;
+                }
+                entry.setValue(entry.getValue() * factor);
+                persisted.put(entry.getKey(), entry.getValue());
+            }
+            tagBoost.clear();
+            tagBoost.putAll(boosts);
+
+            ranked.clear();
+            ranking.clear();
+            Set<Long> ids = new HashSet<>(activity.keySet());
+            ids.addAll(tagBoost.keySet());
+            for (Long id : ids) {
+                rerank(id);
+            }
+            publishTopIds();
+            return persisted;
+        }
+    }
+
+    // Caller holds the lock
+    private void rerank(Long sessionId) {
+        Ranked previous = ranked.remove(sessionId);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        double score = activity.getOrDefault(sessionId, 0.0) + tagBoost.getOrDefault(sessionId, 0.0);
+        if (score > 0) {
+            Ranked entry = new Ranked(sessionId, score);
+            ranked.put(sessionId, entry);
+            ranking.add(entry);
+        }
+    }
+
+    // Caller holds the lock
+    private void publishTopIds() {
+        List<Long> ids = new ArrayList<>(TOP_K);
+        for (Ranked entry : ranking) {
+            if (ids.size() == TOP_K) {
+                break;
+            }
+            ids.add(entry.sessionId);
+        }
+        topIds = List.copyOf(ids);
+    }
+
+    private double grow(long elapsedMillis) {
+        return Math.pow(2, elapsedMillis / halfLifeMillis);
+    }
+
+    private double decay(long elapsedMillis) {
+        return Math.pow(2, -elapsedMillis / halfLifeMillis);
+    }
+}
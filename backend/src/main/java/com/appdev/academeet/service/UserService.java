@@ -1,33 +1,46 @@
 package com.appdev.academeet.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.appdev.academeet.dto.UpdateProfileRequest;
 import com.appdev.academeet.dto.UserProfileResponse;
 import com.appdev.academeet.dto.UserSummaryDTO;
 import com.appdev.academeet.exception.BusinessException;
 import com.appdev.academeet.exception.ResourceNotFoundException;
+import com.appdev.academeet.exception.ValidationException;
 import com.appdev.academeet.model.User;
 import com.appdev.academeet.model.UserFollow;
 import com.appdev.academeet.repository.UserFollowRepository;
 import com.appdev.academeet.repository.UserRepository;
+import com.appdev.academeet.util.TransactionUtils;
 
 @Service
 public class UserService {
     
+    private static final int MAX_IMAGE_URL_LENGTH = 255;
+    
     private final UserRepository userRepository;
     private final UserFollowRepository userFollowRepository;
+    private final SearchIndexService searchIndexService;
+    private final ImageUploadService imageUploadService;
     
     @Autowired
-    public UserService(UserRepository userRepository, UserFollowRepository userFollowRepository) {
+    public UserService(UserRepository userRepository, UserFollowRepository userFollowRepository,
+                       SearchIndexService searchIndexService, ImageUploadService imageUploadService) {
         this.userRepository = userRepository;
         this.userFollowRepository = userFollowRepository;
+        this.searchIndexService = searchIndexService;
+        this.imageUploadService = imageUploadService;
     }
     
     private UserProfileResponse toProfileResponse(User user, Long followersCount, Long followingCount) {
@@ -53,7 +66,7 @@ public class UserService {
             user.getName(),
             user.getEmail(),
             user.getProgram(),
-            user.getProfileImageUrl()
+            user.getAvatarUrl()
         );
     }
     
@@ -73,10 +86,15 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
     }
 
+    public Optional<User> findById(Long id) {
+        return userRepository.findById(id);
+    }
+    
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
     }
     
+    @Transactional
     public User updateProfile(User user, UpdateProfileRequest request) {
         if (request.getName() != null && !request.getName().trim().isEmpty()) {
             user.setName(request.getName().trim());
@@ -95,14 +113,67 @@ public class UserService {
         }
         
         if (request.getProfilePic() != null) {
-            user.setProfileImageUrl(request.getProfilePic());
+            setProfileImage(user, toImageUrl(request.getProfilePic()));
         }
         
         if (request.getCoverImage() != null) {
-            user.setCoverImageUrl(request.getCoverImage());
+            setCoverImage(user, toImageUrl(request.getCoverImage()));
         }
         
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        searchIndexService.indexUser(saved);
+        return saved;
+    }
+    
+    @Transactional
+    public UserProfileResponse updateProfileImage(User user, MultipartFile file) {
+        setProfileImage(user, imageUploadService.storeImage(file));
+        User saved = userRepository.save(user);
+        return toProfileResponse(saved, saved.getFollowerCount(), saved.getFollowingCount());
+    }
+    
+    @Transactional
+    public UserProfileResponse updateCoverImage(User user, MultipartFile file) {
+        setCoverImage(user, imageUploadService.storeImage(file));
+        User saved = userRepository.save(user);
+        return toProfileResponse(saved, saved.getFollowerCount(), saved.getFollowingCount());
+    }
+    
+    // Data URLs are written to disk; an empty value clears the image
+    private String toImageUrl(String value) {
+        if (value.isBlank()) {
+            return null;
+        }
+        if (imageUploadService.isDataUrl(value)) {
+            return imageUploadService.storeDataUrl(value);
+        }
+        if (value.length() > MAX_IMAGE_URL_LENGTH) {
+            throw new ValidationException("Image URL is too long");
+        }
+        return value;
+    }
+    
+    private void setProfileImage(User user, String imageUrl) {
+        String previous = user.getProfileImageUrl();
+        if (Objects.equals(previous, imageUrl)) {
+            return;
+        }
+        user.setProfileImageUrl(imageUrl);
+        userRepository.clearProfileThumbnail(user.getId());
+        Long userId = user.getId();
+        TransactionUtils.afterCommit(() -> {
+            imageUploadService.deleteImage(previous);
+            imageUploadService.generateProfileThumbnail(userId, imageUrl);
+        });
+    }
+    
+    private void setCoverImage(User user, String imageUrl) {
+        String previous = user.getCoverImageUrl();
+        if (Objects.equals(previous, imageUrl)) {
+            return;
+        }
+        user.setCoverImageUrl(imageUrl);
+        TransactionUtils.afterCommit(() -> imageUploadService.deleteImage(previous));
     }
     
     public boolean existsByEmail(String email) {
@@ -124,6 +195,8 @@ public class UserService {
         
         UserFollow userFollow = new UserFollow(follower, following);
         userFollowRepository.save(userFollow);
+        userRepository.adjustFollowingCount(followerId, 1);
+        userRepository.adjustFollowerCount(followingId, 1);
     }
     
     @Transactional
@@ -132,7 +205,11 @@ public class UserService {
             throw new BusinessException("User is not following this user");
         }
         
-        userFollowRepository.deleteByFollowerIdAndFollowingId(followerId, followingId);
+        // Only adjust counters for the request that actually removed the row
+        if (userFollowRepository.deleteByFollowerIdAndFollowingId(followerId, followingId) > 0) {
+            userRepository.adjustFollowingCount(followerId, -1);
+            userRepository.adjustFollowerCount(followingId, -1);
+        }
     }
     
     @Transactional(readOnly = true)
@@ -162,12 +239,17 @@ public class UserService {
         return userFollowRepository.existsByFollowerIdAndFollowingId(followerId, followingId);
     }
     
+    public Set<Long> getFollowedIdsAmong(Long followerId, Collection<Long> userIds) {
+        if (followerId == null || userIds.isEmpty()) {
+            return Set.of();
+        }
+        return userFollowRepository.findFollowedIdsAmong(followerId, userIds);
+    }
+    
     @Transactional(readOnly = true)
     public UserProfileResponse getUserProfileDTO(Long userId) {
         User user = getUserById(userId);
-        Long followersCount = getFollowerCount(userId);
-        Long followingCount = getFollowingCount(userId);
-        return toProfileResponse(user, followersCount, followingCount);
+        return toProfileResponse(user, user.getFollowerCount(), user.getFollowingCount());
     }
     
     @Transactional(readOnly = true)
@@ -185,8 +267,6 @@ public class UserService {
     @Transactional
     public UserProfileResponse updateProfileDTO(User user, UpdateProfileRequest request) {
         User updatedUser = updateProfile(user, request);
-        Long followersCount = getFollowerCount(updatedUser.getId());
-        Long followingCount = getFollowingCount(updatedUser.getId());
-        return toProfileResponse(updatedUser, followersCount, followingCount);
+        return toProfileResponse(updatedUser, updatedUser.getFollowerCount(), updatedUser.getFollowingCount());
     }
 }
@@ -0,0 +1,254 @@
+package com.appdev.academeet.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index with weighted fields and substring matching.
+ * Terms are kept in a sorted map so a query term resolves to a contiguous
+ * range of indexed terms (e.g. "calc" -> "calculus", "calculator"); a second
+ * sorted map of term suffixes does the same for matches inside a term
+ * ("alc" -> "calculus"), matching the LIKE %kw% search it replaced. Exact
+ * terms score above prefix matches, which score above infix matches.
+ * Every query term must match for a document to be returned.
+ */
+public class InvertedIndex {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+    private static final double INFIX_MATCH_FACTOR = 0.25;
+    private static final double LEADING_MATCH_BONUS = 10.0;
+
+    public static class Field {
+        private final String text;
+        private final double weight;
+
+        public Field(String text, double weight) {
+            this.text = text;
+            this.weight = weight;
+        }
+    }
+
+    public static class Hit {
+        private final long id;
+        private final double score;
+
+        public Hit(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        public long getId() { return id; }
+        public double getScore() { return score; }
+    }
+
+    // term -> (docId -> accumulated field weight)
+    private final NavigableMap<String, Map<Long, Double>> postings = new TreeMap<>();
+    // proper suffix -> indexed terms ending with it, for matches that start inside a term
+    private final NavigableMap<String, Set<String>> suffixes = new TreeMap<>();
+    // docId -> terms, so a document can be removed or replaced
+    private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+    // docId -> normalized leading field (title/name) for prefix ranking
+    private final Map<Long, String> leadingText = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Indexes (or re-indexes) a document. {@code leading} is the field whose
+     * prefix match ranks a document first (session title, user name).
+     */
+    public void put(long id, String leading, List<Field> fields) {
+        Map<String, Double> weights = new HashMap<>();
+        for (Field field : fields) {
+            for (String term : tokenize(field.text)) {
+                weights.merge(term, field.weight, Double::sum);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            for (Map.Entry<String, Double> entry : weights.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> {
+                    addSuffixes(term);
+                    return new HashMap<>();
+                }).put(id, entry.getValue());
+            }
+            documentTerms.put(id, weights.keySet());
+            if (leading != null) {
+                leadingText.put(id, normalize(leading));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            suffixes.clear();
+            documentTerms.clear();
+            leadingText.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns matching documents ordered by descending score, then ascending id.
+     */
+    public List<Hit> search(String query, int limit) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String normalizedQuery = normalize(query).trim();
+
+        lock.readLock().lock();
+        try {
+            int documentCount = Math.max(1, documentTerms.size());
+            Map<Long, Double> scores = null;
+
+            for (String queryTerm : queryTerms) {
+                Map<Long, Double> termScores = new HashMap<>();
+                for (Map.Entry<String, Map<Long, Double>> entry : prefixRange(postings, queryTerm).entrySet()) {
+                    double factor = entry.getKey().equals(queryTerm) ? 1.0 : PREFIX_MATCH_FACTOR;
+                    scoreTerm(entry.getValue(), documentCount, factor, termScores);
+                }
+                for (Set<String> terms : prefixRange(suffixes, queryTerm).values()) {
+                    for (String term : terms) {
+                        scoreTerm(postings.get(term), documentCount, INFIX_MATCH_FACTOR, termScores);
+                    }
+                }
+
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    Map<Long, Double> intersection = new HashMap<>();
+                    for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                        Double termScore = termScores.get(entry.getKey());
+                        if (termScore != null) {
+                            intersection.put(entry.getKey(), entry.getValue() + termScore);
+                        }
+                    }
+                    scores = intersection;
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(scores.size());
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                double score = entry.getValue();
+                String leading = leadingText.get(entry.getKey());
+                if (leading != null && leading.startsWith(normalizedQuery)) {
+                    score += LEADING_MATCH_BONUS;
+                }
+                hits.add(new Hit(entry.getKey(), score));
+            }
+            hits.sort(Comparator.comparingDouble(Hit::getScore).reversed().thenComparingLong(Hit::getId));
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD.split(normalize(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static void scoreTerm(Map<Long, Double> docs, int documentCount, double factor, Map<Long, Double> termScores) {
+        double idf = Math.log(1.0 + (double) documentCount / docs.size());
+        for (Map.Entry<Long, Double> doc : docs.entrySet()) {
+            termScores.merge(doc.getKey(), doc.getValue() * idf * factor, Math::max);
+        }
+    }
+
+    private static <V> NavigableMap<String, V> prefixRange(NavigableMap<String, V> map, String prefix) {
+        return map.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void addSuffixes(String term) {
+        for (int i = 1; i < term.length(); i++) {
+            suffixes.computeIfAbsent(term.substring(i), k -> new HashSet<>()).add(term);
+        }
+    }
+
+    private void removeSuffixes(String term) {
+        for (int i = 1; i < term.length(); i++) {
+            String suffix = term.substring(i);
+            Set<String> terms = suffixes.get(suffix);
+            if (terms != null) {
+                terms.remove(term);
+                if (terms.isEmpty()) {
+                    suffixes.remove(suffix);
+                }
+            }
+        }
+    }
+
+    private void removeInternal(long id) {
+        Set<String> terms = documentTerms.remove(id);
+        leadingText.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Double> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                    removeSuffixes(term);
+                }
+            }
+        }
+    }
+}
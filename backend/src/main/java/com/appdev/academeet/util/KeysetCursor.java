@@ -0,0 +1,40 @@
+package com.appdev.academeet.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+import com.appdev.academeet.exception.ValidationException;
+
+/**
+ * Opaque cursor for keyset pagination. The cursor carries the sort key values
+ * of the last row of a page so the next page can resume with a range predicate
+ * instead of an OFFSET scan.
+ */
+public class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    public static String encode(Object... parts) {
+        StringJoiner joiner = new StringJoiner(SEPARATOR);
+        for (Object part : parts) {
+            joiner.add(part == null ? "" : part.toString());
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(Pattern.quote(SEPARATOR), -1);
+            if (parts.length != expectedParts) {
+                throw new ValidationException("Invalid cursor");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.appdev.academeet.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Fixed-size ring of the most recent events of a stream, numbered 1, 2, 3...
+ * A reconnecting reader asks for everything after the last number it saw and
+ * gets either the gap or null when the gap is no longer fully buffered.
+ * Not thread-safe; callers guard it with their own lock.
+ */
+public class ReplayBuffer<T> {
+
+    private final int capacity;
+    private final ArrayDeque<T> recent;
+    private long firstSeq = 1;
+    private long lastSeq;
+
+    public ReplayBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.recent = new ArrayDeque<>(capacity);
+    }
+
+    // Seq the next appended event will get
+    public long nextSeq() {
+        return lastSeq + 1;
+    }
+
+    public long lastSeq() {
+        return lastSeq;
+    }
+
+    public long append(T event) {
+        if (recent.size() == capacity) {
+            recent.removeFirst();
+            firstSeq++;
+        }
+        recent.addLast(event);
+        return ++lastSeq;
+    }
+
+    // Events after seq in order, or null when some were evicted or seq was never issued
+    public List<T> since(long seq) {
+        if (seq < firstSeq - 1 || seq > lastSeq) {
+            return null;
+        }
+        List<T> missed = new ArrayList<>((int) (lastSeq - seq));
+        long current = firstSeq;
+        for (T event : recent) {
+            if (current > seq) {
+                missed.add(event);
+            }
+            current++;
+        }
+        return missed;
+    }
+
+    public boolean contains(Predicate<T> matcher) {
+        for (T event : recent) {
+            if (matcher.test(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,30 +1,42 @@
 package com.appdev.academeet.util;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 import com.appdev.academeet.model.Session;
 import com.appdev.academeet.model.SessionStatus;
 
+// Time-derived status, applied when a session is written; SessionStatusTransitionJob moves it across boundaries afterwards
 public class SessionStatusCalculator {
+    // Length assumed for sessions stored without an end time (rows from before it was required)
+    public static final Duration DEFAULT_DURATION = Duration.ofHours(1);
+
     public static SessionStatus calculateStatus(Session session) {
+        return calculateStatus(session, LocalDateTime.now());
+    }
+
+    public static SessionStatus calculateStatus(Session session, LocalDateTime now) {
        
         SessionStatus currentStatus = session.getSessionStatus();
         if (currentStatus == SessionStatus.DELETED ||
             currentStatus == SessionStatus.TRASH) {
             return currentStatus;
-        }        LocalDateTime now = LocalDateTime.now();
+        }
         LocalDateTime startTime = session.getStartTime();
         LocalDateTime endTime = session.getEndTime();
         
-        if (startTime == null || endTime == null) {
+        if (startTime == null) {
             return SessionStatus.SCHEDULED;
         }
+        if (endTime == null) {
+            endTime = startTime.plus(DEFAULT_DURATION);
+        }
         
         if (now.isBefore(startTime)) {
             return SessionStatus.SCHEDULED;
         }
         
-        if (now.isAfter(startTime) && now.isBefore(endTime)) {
+        if (now.isBefore(endTime)) {
             return SessionStatus.ACTIVE;
         }
         
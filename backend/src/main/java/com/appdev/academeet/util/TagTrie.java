@@ -0,0 +1,120 @@
+package com.appdev.academeet.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Character trie over normalized tag names for autocomplete. A lookup walks
+ * the prefix once and then scans only that subtree, keeping the most used
+ * tags in a bounded heap.
+ */
+public class TagTrie {
+
+    public static class Suggestion {
+        private final long id;
+        private final String name;
+        private final long usageCount;
+
+        public Suggestion(long id, String name, long usageCount) {
+            this.id = id;
+            this.name = name;
+            this.usageCount = usageCount;
+        }
+
+        public long getId() { return id; }
+        public String getName() { return name; }
+        public long getUsageCount() { return usageCount; }
+    }
+
+    // Most used first, then alphabetical
+    private static final Comparator<Suggestion> RANK = Comparator.comparingLong(Suggestion::getUsageCount)
+            .reversed()
+            .thenComparing(Suggestion::getName);
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Suggestion tag;
+    }
+
+    private final Node root = new Node();
+    // id -> name, so counts can be updated without the caller knowing the name
+    private final Map<Long, String> names = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(long id, String name, long usageCount) {
+        lock.writeLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < name.length(); i++) {
+                node = node.children.computeIfAbsent(name.charAt(i), c -> new Node());
+            }
+            node.tag = new Suggestion(id, name, usageCount);
+            names.put(id, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void adjustCount(long id, long delta) {
+        lock.writeLock().lock();
+        try {
+            String name = names.get(id);
+            Node node = name != null ? find(name) : null;
+            if (node != null && node.tag != null) {
+                node.tag = new Suggestion(id, name, Math.max(0, node.tag.getUsageCount() + delta));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node start = find(prefix);
+            if (start == null) {
+                return List.of();
+            }
+            // Min-heap of the best `limit` seen so far; its head is the weakest kept entry
+            PriorityQueue<Suggestion> best = new PriorityQueue<>(limit + 1, RANK.reversed());
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(start);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                if (node.tag != null) {
+                    best.offer(node.tag);
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+                for (Node child : node.children.values()) {
+                    stack.push(child);
+                }
+            }
+            List<Suggestion> result = new ArrayList<>(best);
+            result.sort(RANK);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+}
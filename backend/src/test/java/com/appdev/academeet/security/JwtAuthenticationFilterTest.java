@@ -0,0 +1,102 @@
+package com.appdev.academeet.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.appdev.academeet.model.User;
+import com.appdev.academeet.repository.UserRepository;
+
+class JwtAuthenticationFilterTest {
+
+	private static final String SECRET =
+			"Y2hhbmdlbWV0b2F2ZXJ5c2VjdXJla2V5Zm9yand0dG9rZW5nZW5lcmF0aW9uYW5kdmFsaWRhdGlvbnB1cnBvc2Vz";
+
+	private JwtUtil jwtUtil;
+	private UserRepository userRepository;
+	private JwtAuthenticationFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JwtUtil();
+		ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+		ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", 3_600_000L);
+		ReflectionTestUtils.setField(jwtUtil, "jwtRefreshExpirationMs", 3_600_000L);
+		ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", 10);
+		jwtUtil.init();
+
+		userRepository = mock(UserRepository.class);
+		filter = new JwtAuthenticationFilter();
+		ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+		ReflectionTestUtils.setField(filter, "userRepository", userRepository);
+		ReflectionTestUtils.setField(filter, "userCheckTtlMs", 60_000L);
+		ReflectionTestUtils.setField(filter, "userCheckCacheSize", 10);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void authenticatesAccessTokenOfExistingUser() throws Exception {
+		when(userRepository.existsById(7L)).thenReturn(true);
+
+		Authentication auth = filter(jwtUtil.generateToken(user(7L, "ada@example.com")));
+
+		assertThat(auth).isNotNull();
+		assertThat(((AuthenticatedUser) auth.getPrincipal()).getId()).isEqualTo(7L);
+	}
+
+	@Test
+	void rejectsRefreshTokenAsAccessToken() throws Exception {
+		when(userRepository.existsById(7L)).thenReturn(true);
+
+		assertThat(filter(jwtUtil.generateRefreshToken(user(7L, "ada@example.com")))).isNull();
+	}
+
+	@Test
+	void rejectsTokenOfDeletedUser() throws Exception {
+		when(userRepository.existsById(7L)).thenReturn(false);
+
+		assertThat(filter(jwtUtil.generateToken(user(7L, "ada@example.com")))).isNull();
+	}
+
+	@Test
+	void checksAccountOncePerTtl() throws Exception {
+		when(userRepository.existsById(7L)).thenReturn(true);
+		String token = jwtUtil.generateToken(user(7L, "ada@example.com"));
+
+		filter(token);
+		filter(token);
+
+		verify(userRepository, times(1)).existsById(7L);
+	}
+
+	private Authentication filter(String token) throws Exception {
+		SecurityContextHolder.clearContext();
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sessions");
+		request.addHeader("Authorization", "Bearer " + token);
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		return SecurityContextHolder.getContext().getAuthentication();
+	}
+
+	private static User user(Long id, String email) {
+		User user = new User();
+		user.setId(id);
+		user.setEmail(email);
+		return user;
+	}
+}
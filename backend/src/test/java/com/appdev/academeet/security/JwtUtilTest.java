@@ -0,0 +1,86 @@
+package com.appdev.academeet.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.appdev.academeet.model.User;
+
+import io.jsonwebtoken.Claims;
+
+class JwtUtilTest {
+
+	private static final String SECRET =
+			"Y2hhbmdlbWV0b2F2ZXJ5c2VjdXJla2V5Zm9yand0dG9rZW5nZW5lcmF0aW9uYW5kdmFsaWRhdGlvbnB1cnBvc2Vz";
+
+	@Test
+	void servesRepeatVerificationFromCache() {
+		JwtUtil jwtUtil = jwtUtil(3_600_000L, 10);
+		String token = jwtUtil.generateToken(user(7L, "ada@example.com"));
+
+		Claims first = jwtUtil.parseValidClaims(token).orElseThrow();
+		Claims second = jwtUtil.parseValidClaims(token).orElseThrow();
+
+		assertThat(second).isSameAs(first);
+		assertThat(jwtUtil.getUserIdFromToken(token)).isEqualTo(7L);
+		assertThat(jwtUtil.getEmailFromToken(token)).isEqualTo("ada@example.com");
+	}
+
+	@Test
+	void rejectsCachedTokenOnceExpired() throws InterruptedException {
+		// JWT expiry has one-second resolution
+		JwtUtil jwtUtil = jwtUtil(1_000L, 10);
+		String token = jwtUtil.generateToken(user(7L, "ada@example.com"));
+		assertThat(jwtUtil.validateToken(token)).isTrue();
+
+		Thread.sleep(2_100L);
+
+		assertThat(jwtUtil.parseValidClaims(token)).isEmpty();
+		assertThat(jwtUtil.validateToken(token)).isFalse();
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedBeyondCapacity() {
+		JwtUtil jwtUtil = jwtUtil(3_600_000L, 1);
+		String first = jwtUtil.generateToken(user(1L, "one@example.com"));
+		String second = jwtUtil.generateToken(user(2L, "two@example.com"));
+
+		Claims cached = jwtUtil.parseValidClaims(first).orElseThrow();
+		jwtUtil.parseValidClaims(second);
+		Optional<Claims> reverified = jwtUtil.parseValidClaims(first);
+
+		assertThat(reverified).isPresent();
+		assertThat(reverified.get()).isNotSameAs(cached);
+	}
+
+	@Test
+	void rejectsTamperedAndBlankTokens() {
+		JwtUtil jwtUtil = jwtUtil(3_600_000L, 10);
+		String token = jwtUtil.generateToken(user(7L, "ada@example.com"));
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+		assertThat(jwtUtil.validateToken(tampered)).isFalse();
+		assertThat(jwtUtil.validateToken("")).isFalse();
+		assertThat(jwtUtil.validateToken(null)).isFalse();
+	}
+
+	private static JwtUtil jwtUtil(long expirationMs, int cacheSize) {
+		JwtUtil jwtUtil = new JwtUtil();
+		ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+		ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", expirationMs);
+		ReflectionTestUtils.setField(jwtUtil, "jwtRefreshExpirationMs", expirationMs);
+		ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", cacheSize);
+		jwtUtil.init();
+		return jwtUtil;
+	}
+
+	private static User user(Long id, String email) {
+		User user = new User();
+		user.setId(id);
+		user.setEmail(email);
+		return user;
+	}
+}
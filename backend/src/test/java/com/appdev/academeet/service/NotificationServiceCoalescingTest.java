@@ -0,0 +1,209 @@
+package com.appdev.academeet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.appdev.academeet.dto.NotificationDTO;
+import com.appdev.academeet.model.Notification;
+import com.appdev.academeet.model.NotificationType;
+import com.appdev.academeet.model.Session;
+import com.appdev.academeet.model.User;
+import com.appdev.academeet.repository.NotificationRepository;
+import com.appdev.academeet.repository.UserRepository;
+
+class NotificationServiceCoalescingTest {
+
+	private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-03-14T09:30:00Z"), ZoneOffset.UTC);
+	private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+	private static final long WINDOW_MINUTES = 10;
+
+	private NotificationRepository notificationRepository;
+	private UserRepository userRepository;
+	private NotificationStreamService notificationStreamService;
+	private NotificationService notificationService;
+
+	// Stands in for the notifications table
+	private final List<Notification> stored = new ArrayList<>();
+	private long readThrough;
+
+	private final User host = user(1L);
+	private final Session session = session(10L, "Calculus review");
+
+	@BeforeEach
+	void setUp() {
+		notificationRepository = mock(NotificationRepository.class);
+		userRepository = mock(UserRepository.class);
+		notificationStreamService = mock(NotificationStreamService.class);
+		notificationService = new NotificationService(notificationRepository, userRepository,
+				mock(NotificationFanoutService.class), mock(ReminderScheduler.class), notificationStreamService,
+				CLOCK, WINDOW_MINUTES);
+
+		when(notificationRepository.save(any(Notification.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(userRepository.findNotificationsReadThrough(anyLong())).thenAnswer(invocation -> readThrough);
+		// Same predicates as the native statements, against the rows in stored
+		when(notificationRepository.closeCoalescing(anyString(), any(), anyLong())).thenAnswer(invocation -> {
+			String key = invocation.getArgument(0);
+			LocalDateTime since = invocation.getArgument(1);
+			Long watermark = invocation.getArgument(2);
+			int closed = 0;
+			for (Notification n : stored) {
+				if (key.equals(n.getCoalesceKey())
+						&& (n.getCreatedAt().isBefore(since) || n.isRead() || n.getId() <= watermark)) {
+					n.setCoalesceKey(null);
+					closed++;
+				}
+			}
+			return closed;
+		});
+		when(notificationRepository.upsertCoalescing(anyLong(), anyLong(), anyString(), anyString(), anyString(), any()))
+				.thenAnswer(invocation -> {
+					String key = invocation.getArgument(4);
+					LocalDateTime now = invocation.getArgument(5);
+					Notification open = openRow(key);
+					if (open != null) {
+						open.setEventCount(open.getEventCount() + 1);
+						open.setCreatedAt(now);
+						return 2;
+					}
+					Long sessionId = invocation.getArgument(1);
+					Notification created = new Notification(user(invocation.getArgument(0)),
+							sessionId.equals(session.getId()) ? session : session(sessionId, "other"),
+							NotificationType.valueOf(invocation.getArgument(2)), invocation.getArgument(3));
+					created.setId((long) stored.size() + 1);
+					created.setCoalesceKey(key);
+					created.setCreatedAt(now);
+					stored.add(created);
+					return 1;
+				});
+		when(notificationRepository.findByCoalesceKey(anyString()))
+				.thenAnswer(invocation -> Optional.ofNullable(openRow(invocation.getArgument(0))));
+	}
+
+	@Test
+	void mergesIntoOpenNotificationInsideWindow() {
+		Notification open = existing(host, session, NotificationType.PARTICIPANT_JOINED, NOW.minusMinutes(4));
+
+		notificationService.createCoalescedNotification(host, session, NotificationType.PARTICIPANT_JOINED, "Ada joined");
+
+		assertThat(stored).containsExactly(open);
+		assertThat(open.getEventCount()).isEqualTo(2);
+		assertThat(open.getMessage()).isEqualTo("✅ 2 people joined your session \"Calculus review\"");
+		// Bumped so it sorts with the newest notifications
+		assertThat(open.getCreatedAt()).isEqualTo(NOW);
+		verify(notificationStreamService).pushNotificationUpdate(eq(host.getId()), any(NotificationDTO.class));
+		verify(notificationStreamService, never()).pushNotification(anyLong(), any());
+	}
+
+	@Test
+	void startsNewNotificationOnceWindowHasPassed() {
+		Notification stale = existing(host, session, NotificationType.PARTICIPANT_JOINED,
+				NOW.minusMinutes(WINDOW_MINUTES).minusSeconds(1));
+
+		notificationService.createCoalescedNotification(host, session, NotificationType.PARTICIPANT_JOINED, "Ada joined");
+
+		assertThat(stored).hasSize(2);
+		assertThat(stale.getEventCount()).isEqualTo(1);
+		Notification created = stored.get(1);
+		assertThat(created.getEventCount()).isEqualTo(1);
+		assertThat(created.getMessage()).isEqualTo("Ada joined");
+		assertThat(created.getCreatedAt()).isEqualTo(NOW);
+		verify(notificationStreamService).pushNotification(eq(host.getId()), any(NotificationDTO.class));
+	}
+
+	@Test
+	void doesNotMergeAcrossTypesOrSessions() {
+		existing(host, session, NotificationType.PARTICIPANT_JOINED, NOW.minusMinutes(1));
+		Session other = session(11L, "Physics lab");
+
+		notificationService.createCoalescedNotification(host, session, NotificationType.COMMENT_ON_SESSION, "New comment");
+		notificationService.createCoalescedNotification(host, other, NotificationType.PARTICIPANT_JOINED, "Ada joined");
+
+		assertThat(stored).hasSize(3);
+		assertThat(stored).allSatisfy(notification -> assertThat(notification.getEventCount()).isEqualTo(1));
+	}
+
+	@Test
+	void doesNotMergeIntoReadNotification() {
+		Notification read = existing(host, session, NotificationType.PARTICIPANT_JOINED, NOW.minusMinutes(1));
+		read.setRead(true);
+
+		notificationService.createCoalescedNotification(host, session, NotificationType.PARTICIPANT_JOINED, "Ada joined");
+
+		assertThat(stored).hasSize(2);
+		assertThat(read.getEventCount()).isEqualTo(1);
+	}
+
+	@Test
+	void doesNotMergeIntoRowCoveredByReadWatermark() {
+		Notification seen = existing(host, session, NotificationType.PARTICIPANT_JOINED, NOW.minusMinutes(1));
+		readThrough = seen.getId();
+
+		notificationService.createCoalescedNotification(host, session, NotificationType.PARTICIPANT_JOINED, "Ada joined");
+
+		assertThat(stored).hasSize(2);
+		assertThat(seen.getEventCount()).isEqualTo(1);
+		assertThat(seen.getCoalesceKey()).isNull();
+	}
+
+	@Test
+	void closesStaleRowThenUpsertsOnCoalescingKeyWithoutLockingUser() {
+		notificationService.createCoalescedNotification(host, session, NotificationType.PARTICIPANT_JOINED, "Ada joined");
+
+		String key = "1:10:PARTICIPANT_JOINED";
+		InOrder order = inOrder(notificationRepository);
+		order.verify(notificationRepository).closeCoalescing(key, NOW.minusMinutes(WINDOW_MINUTES), 0L);
+		order.verify(notificationRepository).upsertCoalescing(host.getId(), session.getId(), "PARTICIPANT_JOINED",
+				"Ada joined", key, NOW);
+		// Only a plain read of the watermark touches the user row
+		verify(userRepository).findNotificationsReadThrough(host.getId());
+		verifyNoMoreInteractions(userRepository);
+		verify(notificationStreamService).pushNotification(eq(host.getId()), any(NotificationDTO.class));
+	}
+
+	private Notification openRow(String key) {
+		return stored.stream().filter(n -> key.equals(n.getCoalesceKey())).findFirst().orElse(null);
+	}
+
+	private Notification existing(User recipient, Session session, NotificationType type, LocalDateTime createdAt) {
+		Notification notification = new Notification(recipient, session, type, "earlier");
+		notification.setId((long) stored.size() + 1);
+		notification.setCoalesceKey(NotificationService.coalesceKey(recipient.getId(), session.getId(), type));
+		notification.setCreatedAt(createdAt);
+		stored.add(notification);
+		return notification;
+	}
+
+	private static User user(Long id) {
+		User user = new User();
+		user.setId(id);
+		return user;
+	}
+
+	private static Session session(Long id, String title) {
+		Session session = new Session();
+		session.setId(id);
+		session.setTitle(title);
+		return session;
+	}
+}
@@ -0,0 +1,154 @@
+package com.appdev.academeet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.appdev.academeet.model.Session;
+import com.appdev.academeet.model.SessionStatus;
+import com.appdev.academeet.repository.SessionRepository;
+import com.appdev.academeet.repository.SessionTagRepository;
+import com.appdev.academeet.repository.UserRepository;
+import com.appdev.academeet.util.InvertedIndex.Hit;
+
+class SearchIndexServiceTest {
+
+	private SessionRepository sessionRepository;
+	private SessionTagRepository sessionTagRepository;
+	private UserRepository userRepository;
+	private SearchIndexService searchIndexService;
+
+	@BeforeEach
+	void setUp() {
+		sessionRepository = mock(SessionRepository.class);
+		sessionTagRepository = mock(SessionTagRepository.class);
+		userRepository = mock(UserRepository.class);
+		when(sessionTagRepository.findAllSessionIdAndTagName()).thenReturn(List.of());
+		when(userRepository.findSearchableFields()).thenReturn(List.of());
+		searchIndexService = new SearchIndexService(sessionRepository, sessionTagRepository, userRepository);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void indexesImmediatelyWithoutTransaction() {
+		searchIndexService.indexSession(session(1L, "Calculus review", SessionStatus.SCHEDULED));
+
+		assertThat(ids(searchIndexService.searchSessions("calculus", 10))).containsExactly(1L);
+	}
+
+	@Test
+	void matchesSubstringsLikeTheSqlSearchItReplaced() {
+		searchIndexService.indexSession(session(1L, "Calculus review", SessionStatus.SCHEDULED));
+
+		assertThat(ids(searchIndexService.searchSessions("alc", 10))).containsExactly(1L);
+		assertThat(ids(searchIndexService.searchSessions("view", 10))).containsExactly(1L);
+		assertThat(searchIndexService.searchSessions("calx", 10)).isEmpty();
+	}
+
+	@Test
+	void defersWritesUntilCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		searchIndexService.indexSession(session(1L, "Calculus review", SessionStatus.SCHEDULED));
+		assertThat(searchIndexService.searchSessions("calculus", 10)).isEmpty();
+
+		commit();
+		assertThat(ids(searchIndexService.searchSessions("calculus", 10))).containsExactly(1L);
+	}
+
+	@Test
+	void rolledBackWritesNeverApply() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		searchIndexService.indexSession(session(1L, "Calculus review", SessionStatus.SCHEDULED));
+		TransactionSynchronizationManager.clearSynchronization();
+
+		assertThat(searchIndexService.searchSessions("calculus", 10)).isEmpty();
+	}
+
+	@Test
+	void dropsSessionsThatAreNoLongerLive() {
+		Session session = session(1L, "Calculus review", SessionStatus.ACTIVE);
+		searchIndexService.indexSession(session);
+
+		session.setSessionStatus(SessionStatus.TRASH);
+		searchIndexService.indexSession(session);
+
+		assertThat(searchIndexService.searchSessions("calculus", 10)).isEmpty();
+	}
+
+	@Test
+	void removesSessionsInBulk() {
+		searchIndexService.indexSession(session(1L, "Calculus review", SessionStatus.ACTIVE));
+		searchIndexService.indexSession(session(2L, "Calculus drills", SessionStatus.ACTIVE));
+
+		searchIndexService.removeSessions(List.of(1L, 2L));
+
+		assertThat(searchIndexService.searchSessions("calculus", 10)).isEmpty();
+	}
+
+	@Test
+	void rebuildSwapsInFreshIndexFromLiveRows() {
+		searchIndexService.indexSession(session(9L, "Stale chemistry", SessionStatus.ACTIVE));
+		when(sessionRepository.findSearchableFields(any())).thenReturn(rows(
+				new Object[] { 1L, "Calculus review", null, "Library" }));
+
+		searchIndexService.rebuild();
+
+		assertThat(searchIndexService.isReady()).isTrue();
+		assertThat(ids(searchIndexService.searchSessions("calculus", 10))).containsExactly(1L);
+		assertThat(searchIndexService.searchSessions("chemistry", 10)).isEmpty();
+	}
+
+	@Test
+	void rebuildReplaysWritesThatLandWhileLoading() {
+		when(sessionRepository.findSearchableFields(any())).thenAnswer(invocation -> {
+			// A session created and another closed while the rebuild reads the table
+			searchIndexService.indexSession(session(2L, "Calculus drills", SessionStatus.SCHEDULED));
+			searchIndexService.removeSession(1L);
+			return rows(new Object[] { 1L, "Calculus review", null, null });
+		});
+
+		searchIndexService.rebuild();
+
+		assertThat(ids(searchIndexService.searchSessions("calculus", 10))).containsExactly(2L);
+	}
+
+	private static Session session(Long id, String title, SessionStatus status) {
+		Session session = new Session();
+		session.setId(id);
+		session.setTitle(title);
+		session.setSessionStatus(status);
+		return session;
+	}
+
+	private static List<Object[]> rows(Object[]... rows) {
+		return new ArrayList<>(List.of(rows));
+	}
+
+	private static void commit() {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(TransactionSynchronization::afterCommit);
+	}
+
+	private static List<Long> ids(List<Hit> hits) {
+		return hits.stream().map(Hit::getId).toList();
+	}
+}
@@ -0,0 +1,94 @@
+package com.appdev.academeet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.appdev.academeet.dto.SessionDTO;
+import com.appdev.academeet.model.Session;
+import com.appdev.academeet.repository.SessionNoteRepository;
+import com.appdev.academeet.repository.SessionRepository;
+import com.appdev.academeet.repository.SessionTagRepository;
+
+/**
+ * Stands in for a Hibernate statistics check: a page costs one query each
+ * for hosts, tags and notes however many sessions it holds, and no lazy
+ * association of a session is touched.
+ */
+class SessionDTOAssemblerTest {
+
+	private static final int PAGE_SIZE = 100;
+
+	private SessionRepository sessionRepository;
+	private SessionTagRepository sessionTagRepository;
+	private SessionNoteRepository sessionNoteRepository;
+	private SessionDTOAssembler assembler;
+
+	@BeforeEach
+	void setUp() {
+		sessionRepository = mock(SessionRepository.class);
+		sessionTagRepository = mock(SessionTagRepository.class);
+		sessionNoteRepository = mock(SessionNoteRepository.class);
+		assembler = new SessionDTOAssembler(sessionRepository, sessionTagRepository, sessionNoteRepository);
+	}
+
+	@Test
+	void loadsAPageWithOneQueryPerAssociation() {
+		List<Session> sessions = LongStream.rangeClosed(1, PAGE_SIZE).mapToObj(SessionDTOAssemblerTest::session).toList();
+		List<Long> ids = sessions.stream().map(Session::getId).toList();
+		when(sessionRepository.findHostsBySessionIds(ids)).thenReturn(rows(new Object[] { 1L, 7L, "Ada" }));
+		when(sessionTagRepository.findSessionIdAndTagNameBySessionIdIn(ids)).thenReturn(rows(
+				new Object[] { 1L, "calculus" }, new Object[] { 1L, "exam" }, new Object[] { 2L, "physics" }));
+		when(sessionNoteRepository.findSessionIdAndFilepathBySessionIdIn(ids)).thenReturn(rows(
+				new Object[] { 2L, "/uploads/notes/a.pdf" }));
+
+		List<SessionDTO> dtos = assembler.toDTOs(sessions);
+
+		assertThat(dtos).hasSize(PAGE_SIZE);
+		assertThat(dtos.get(0).getCreatedBy().getName()).isEqualTo("Ada");
+		assertThat(dtos.get(0).getTags()).containsExactly("calculus", "exam");
+		assertThat(dtos.get(1).getNotes()).containsExactly("/uploads/notes/a.pdf");
+		assertThat(dtos.get(2).getTags()).isEmpty();
+
+		verify(sessionRepository).findHostsBySessionIds(ids);
+		verify(sessionTagRepository).findSessionIdAndTagNameBySessionIdIn(ids);
+		verify(sessionNoteRepository).findSessionIdAndFilepathBySessionIdIn(ids);
+		verifyNoMoreInteractions(sessionRepository, sessionTagRepository, sessionNoteRepository);
+		for (Session session : sessions) {
+			verify(session, never()).getHost();
+			verify(session, never()).getSessionTags();
+			verify(session, never()).getSessionNotes();
+			verify(session, never()).getParticipants();
+		}
+	}
+
+	@Test
+	void emptyPageRunsNoQueries() {
+		assertThat(assembler.toDTOs(List.of())).isEmpty();
+
+		verifyNoInteractions(sessionRepository, sessionTagRepository, sessionNoteRepository);
+	}
+
+	private static Session session(long id) {
+		Session session = new Session();
+		session.setId(id);
+		session.setTitle("Session " + id);
+		return spy(session);
+	}
+
+	private static List<Object[]> rows(Object[]... rows) {
+		return new ArrayList<>(List.of(rows));
+	}
+}
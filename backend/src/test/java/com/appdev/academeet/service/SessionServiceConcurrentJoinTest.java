@@ -0,0 +1,211 @@
+package com.appdev.academeet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.appdev.academeet.model.Session;
+import com.appdev.academeet.model.SessionParticipant;
+import com.appdev.academeet.model.SessionPrivacy;
+import com.appdev.academeet.model.SessionWaitlistEntry;
+import com.appdev.academeet.model.User;
+import com.appdev.academeet.repository.SessionParticipantRepository;
+import com.appdev.academeet.repository.SessionRepository;
+import com.appdev.academeet.repository.SessionWaitlistRepository;
+import com.appdev.academeet.repository.UserRepository;
+import com.appdev.academeet.service.SessionService.JoinOutcome;
+
+/**
+ * Many users joining one session at once. The repositories stand in for the
+ * database: the seat counter is a conditional increment like the
+ * tryReserveSeat UPDATE, and each callback run by the TransactionTemplate
+ * undoes its writes when it throws, like a rollback.
+ */
+class SessionServiceConcurrentJoinTest {
+
+	private static final long SESSION_ID = 10L;
+	private static final int CAPACITY = 8;
+	private static final int USERS = 64;
+
+	private final AtomicInteger seatsTaken = new AtomicInteger();
+	private final Set<Long> participants = ConcurrentHashMap.newKeySet();
+	private final Set<Long> waitlisted = ConcurrentHashMap.newKeySet();
+	private final Set<Long> contendedOnce = ConcurrentHashMap.newKeySet();
+	private final ThreadLocal<List<Runnable>> rollback = ThreadLocal.withInitial(ArrayList::new);
+	private final ThreadLocal<Long> currentUserId = new ThreadLocal<>();
+
+	private SessionService sessionService;
+
+	@BeforeEach
+	void setUp() {
+		Session session = new Session();
+		session.setId(SESSION_ID);
+		session.setSessionPrivacy(SessionPrivacy.PUBLIC);
+		session.setMaxParticipants(CAPACITY);
+
+		SessionRepository sessionRepository = mock(SessionRepository.class);
+		when(sessionRepository.findById(SESSION_ID)).thenReturn(Optional.of(session));
+		when(sessionRepository.tryReserveSeat(SESSION_ID)).thenAnswer(invocation -> {
+			// Every fourth user loses a lock wait once, so the retry path runs too
+			long userId = currentUserId.get();
+			if (userId % 4 == 0 && contendedOnce.add(userId)) {
+				throw new CannotAcquireLockException("Lock wait timeout exceeded");
+			}
+			while (true) {
+				int taken = seatsTaken.get();
+				if (taken >= CAPACITY) {
+					return 0;
+				}
+				if (seatsTaken.compareAndSet(taken, taken + 1)) {
+					rollback.get().add(seatsTaken::decrementAndGet);
+					return 1;
+				}
+			}
+		});
+
+		SessionParticipantRepository participantRepository = mock(SessionParticipantRepository.class);
+		when(participantRepository.existsBySessionIdAndUserId(eq(SESSION_ID), anyLong()))
+				.thenAnswer(invocation -> participants.contains(invocation.<Long>getArgument(1)));
+		when(participantRepository.saveAndFlush(any(SessionParticipant.class))).thenAnswer(invocation -> {
+			SessionParticipant participant = invocation.getArgument(0);
+			Long userId = participant.getUser().getId();
+			if (!participants.add(userId)) {
+				throw new DataIntegrityViolationException("Duplicate entry");
+			}
+			rollback.get().add(() -> participants.remove(userId));
+			return participant;
+		});
+
+		SessionWaitlistRepository waitlistRepository = mock(SessionWaitlistRepository.class);
+		when(waitlistRepository.existsBySessionIdAndUserId(eq(SESSION_ID), anyLong()))
+				.thenAnswer(invocation -> waitlisted.contains(invocation.<Long>getArgument(1)));
+		when(waitlistRepository.saveAndFlush(any(SessionWaitlistEntry.class))).thenAnswer(invocation -> {
+			SessionWaitlistEntry entry = invocation.getArgument(0);
+			if (!waitlisted.add(entry.getUser().getId())) {
+				throw new DataIntegrityViolationException("Duplicate entry");
+			}
+			return entry;
+		});
+
+		TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+		when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+			TransactionCallback<?> callback = invocation.getArgument(0);
+			rollback.get().clear();
+			try {
+				return callback.doInTransaction(null);
+			} catch (RuntimeException e) {
+				rollback.get().forEach(Runnable::run);
+				throw e;
+			} finally {
+				rollback.get().clear();
+			}
+		});
+
+		sessionService = new SessionService(sessionRepository, participantRepository, waitlistRepository,
+				mock(UserRepository.class), mock(BCryptPasswordEncoder.class), mock(NotificationService.class),
+				mock(SearchIndexService.class), mock(SessionDTOAssembler.class), mock(TrendingService.class),
+				mock(TagService.class), mock(ApplicationEventPublisher.class), transactionTemplate);
+	}
+
+	@Test
+	void neverSeatsMoreThanCapacity() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(USERS);
+		CountDownLatch start = new CountDownLatch(1);
+		Map<Long, Future<JoinOutcome>> outcomes = new ConcurrentHashMap<>();
+		try {
+			for (long userId = 1; userId <= USERS; userId++) {
+				User user = new User();
+				user.setId(userId);
+				outcomes.put(userId, pool.submit(() -> {
+					currentUserId.set(user.getId());
+					start.await();
+					return sessionService.joinSession(SESSION_ID, user);
+				}));
+			}
+			start.countDown();
+
+			int joined = 0;
+			int queued = 0;
+			for (Future<JoinOutcome> outcome : outcomes.values()) {
+				if (outcome.get(30, TimeUnit.SECONDS) == JoinOutcome.JOINED) {
+					joined++;
+				} else {
+					queued++;
+				}
+			}
+
+			assertThat(joined).isEqualTo(CAPACITY);
+			assertThat(queued).isEqualTo(USERS - CAPACITY);
+			assertThat(participants).hasSize(CAPACITY);
+			assertThat(seatsTaken.get()).isEqualTo(participants.size());
+			assertThat(waitlisted).hasSize(USERS - CAPACITY).doesNotContainAnyElementsOf(participants);
+			assertThat(contendedOnce).hasSize(USERS / 4);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void duplicateJoinsHoldOneSeat() throws Exception {
+		int attempts = CAPACITY - 2;
+		User user = new User();
+		user.setId(5L);
+		ExecutorService pool = Executors.newFixedThreadPool(attempts);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<JoinOutcome>> outcomes = new ArrayList<>();
+		try {
+			for (int i = 0; i < attempts; i++) {
+				outcomes.add(pool.submit(() -> {
+					currentUserId.set(user.getId());
+					start.await();
+					return sessionService.joinSession(SESSION_ID, user);
+				}));
+			}
+			start.countDown();
+
+			int joined = 0;
+			for (Future<JoinOutcome> outcome : outcomes) {
+				try {
+					if (outcome.get(30, TimeUnit.SECONDS) == JoinOutcome.JOINED) {
+						joined++;
+					}
+				} catch (ExecutionException e) {
+					assertThat(e.getCause()).hasMessage("User has already joined this session");
+				}
+			}
+
+			assertThat(joined).isEqualTo(1);
+			assertThat(participants).containsExactly(5L);
+			// Seats claimed by the losing attempts were rolled back with them
+			assertThat(seatsTaken.get()).isEqualTo(1);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+}
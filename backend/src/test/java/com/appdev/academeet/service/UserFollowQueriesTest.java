@@ -0,0 +1,116 @@
+package com.appdev.academeet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.appdev.academeet.dto.UserProfileResponse;
+import com.appdev.academeet.model.User;
+import com.appdev.academeet.model.UserFollow;
+import com.appdev.academeet.repository.SessionRepository;
+import com.appdev.academeet.repository.UserFollowRepository;
+import com.appdev.academeet.repository.UserRepository;
+
+/**
+ * Pins the statement shape of the follow paths: counters change through the
+ * conditional adjust* UPDATEs, profiles and search rows read the stored
+ * counters, and follow state for a result page is a single set query.
+ */
+class UserFollowQueriesTest {
+
+	private UserRepository userRepository;
+	private UserFollowRepository userFollowRepository;
+	private SearchIndexService searchIndexService;
+	private UserService userService;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		userFollowRepository = mock(UserFollowRepository.class);
+		searchIndexService = mock(SearchIndexService.class);
+		userService = new UserService(userRepository, userFollowRepository, searchIndexService,
+				mock(ImageUploadService.class));
+	}
+
+	@Test
+	void followAdjustsCountersWithConditionalUpdates() {
+		when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, "Ada", 0, 0)));
+		when(userRepository.findById(2L)).thenReturn(Optional.of(user(2L, "Grace", 0, 0)));
+
+		userService.followUser(1L, 2L);
+
+		verify(userFollowRepository).existsByFollowerIdAndFollowingId(1L, 2L);
+		verify(userFollowRepository).save(any(UserFollow.class));
+		verify(userRepository).adjustFollowingCount(1L, 1);
+		verify(userRepository).adjustFollowerCount(2L, 1);
+		verifyNoMoreInteractions(userFollowRepository);
+		verify(userRepository, never()).save(any());
+	}
+
+	@Test
+	void unfollowAdjustsCountersOnlyWhenRowWasRemoved() {
+		when(userFollowRepository.existsByFollowerIdAndFollowingId(1L, 2L)).thenReturn(true);
+		when(userFollowRepository.deleteByFollowerIdAndFollowingId(1L, 2L)).thenReturn(1, 0);
+
+		userService.unfollowUser(1L, 2L);
+		userService.unfollowUser(1L, 2L);
+
+		verify(userRepository).adjustFollowingCount(1L, -1);
+		verify(userRepository).adjustFollowerCount(2L, -1);
+		verifyNoMoreInteractions(userRepository);
+	}
+
+	@Test
+	void profileReadsStoredCountersWithoutCountQueries() {
+		when(userRepository.findById(2L)).thenReturn(Optional.of(user(2L, "Grace", 40, 3)));
+
+		UserProfileResponse profile = userService.getUserProfileDTO(2L);
+
+		assertThat(profile.getFollowers()).isEqualTo(40L);
+		assertThat(profile.getFollowing()).isEqualTo(3L);
+		verifyNoInteractions(userFollowRepository);
+	}
+
+	@Test
+	void searchPageLoadsFollowStateInOneQuery() {
+		List<User> users = List.of(user(2L, "Grace", 40, 3), user(3L, "Alan", 7, 9), user(4L, "Barbara", 1, 1));
+		when(userRepository.findAll(any(Specification.class), any(Sort.class))).thenReturn(users);
+		when(userFollowRepository.findFollowedIdsAmong(eq(1L), anyCollection())).thenReturn(Set.of(3L));
+		SearchService searchService = new SearchService(userRepository, mock(SessionRepository.class), userService,
+				searchIndexService, mock(SessionDTOAssembler.class));
+
+		List<Map<String, Object>> rows = searchService.searchUsersMapped("a", null, null, "name", 1L);
+
+		assertThat(rows).extracting(row -> row.get("followers")).containsExactly(40L, 7L, 1L);
+		assertThat(rows).extracting(row -> row.get("isFollowing")).containsExactly(false, true, false);
+		verify(userFollowRepository).findFollowedIdsAmong(1L, List.of(2L, 3L, 4L));
+		verifyNoMoreInteractions(userFollowRepository);
+	}
+
+	private static User user(Long id, String name, long followers, long following) {
+		User user = new User();
+		user.setId(id);
+		user.setName(name);
+		ReflectionTestUtils.setField(user, "followerCount", followers);
+		ReflectionTestUtils.setField(user, "followingCount", following);
+		return user;
+	}
+}
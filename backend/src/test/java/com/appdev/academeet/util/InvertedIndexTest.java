@@ -0,0 +1,87 @@
+package com.appdev.academeet.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.appdev.academeet.util.InvertedIndex.Field;
+import com.appdev.academeet.util.InvertedIndex.Hit;
+
+class InvertedIndexTest {
+
+	private final InvertedIndex index = new InvertedIndex();
+
+	@Test
+	void matchesTermPrefixes() {
+		index.put(1L, "Calculus review", List.of(new Field("Calculus review", 3.0)));
+		index.put(2L, "Physics lab", List.of(new Field("Physics lab", 3.0)));
+
+		assertThat(ids(index.search("calc", 10))).containsExactly(1L);
+	}
+
+	@Test
+	void requiresEveryQueryTerm() {
+		index.put(1L, "Calculus review", List.of(new Field("Calculus review", 3.0)));
+		index.put(2L, "Calculus drills", List.of(new Field("Calculus drills", 3.0)));
+
+		assertThat(ids(index.search("calculus review", 10))).containsExactly(1L);
+		assertThat(index.search("calculus chemistry", 10)).isEmpty();
+	}
+
+	@Test
+	void ranksLeadingMatchFirstThenById() {
+		index.put(3L, "Study group", List.of(new Field("Study group", 3.0), new Field("algebra", 1.0)));
+		index.put(2L, "Algebra basics", List.of(new Field("Algebra basics", 3.0)));
+		index.put(1L, "Algebra basics", List.of(new Field("Algebra basics", 3.0)));
+
+		assertThat(ids(index.search("algebra", 10))).containsExactly(1L, 2L, 3L);
+		assertThat(ids(index.search("algebra", 2))).containsExactly(1L, 2L);
+	}
+
+	@Test
+	void putReplacesAndRemoveDrops() {
+		index.put(1L, "Chemistry", List.of(new Field("Chemistry", 3.0)));
+		index.put(1L, "Biology", List.of(new Field("Biology", 3.0)));
+
+		assertThat(index.search("chemistry", 10)).isEmpty();
+		assertThat(ids(index.search("biology", 10))).containsExactly(1L);
+
+		index.remove(1L);
+
+		assertThat(index.search("biology", 10)).isEmpty();
+		assertThat(index.size()).isZero();
+	}
+
+	@Test
+	void matchesInsideTermsBelowPrefixMatches() {
+		index.put(1L, null, List.of(new Field("Precalculus", 3.0)));
+		index.put(2L, null, List.of(new Field("Calculator basics", 3.0)));
+		index.put(3L, null, List.of(new Field("Calculus", 3.0)));
+
+		assertThat(ids(index.search("alc", 10))).containsExactlyInAnyOrder(1L, 2L, 3L);
+		assertThat(ids(index.search("calcul", 10))).containsExactly(2L, 3L, 1L);
+		assertThat(ids(index.search("calculus", 10))).containsExactly(3L, 1L);
+	}
+
+	@Test
+	void removeDropsInfixMatches() {
+		index.put(1L, "Precalculus", List.of(new Field("Precalculus", 3.0)));
+
+		index.remove(1L);
+
+		assertThat(index.search("alc", 10)).isEmpty();
+	}
+
+	@Test
+	void ignoresCaseAndDiacritics() {
+		index.put(1L, "Café Économie", List.of(new Field("Café Économie", 3.0)));
+
+		assertThat(ids(index.search("CAFE econ", 10))).containsExactly(1L);
+	}
+
+	private static List<Long> ids(List<Hit> hits) {
+		return hits.stream().map(Hit::getId).toList();
+	}
+}
@@ -0,0 +1,53 @@
+package com.appdev.academeet.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.appdev.academeet.exception.ValidationException;
+
+class KeysetCursorTest {
+
+	@Test
+	void roundTripsSortKeys() {
+		LocalDateTime startTime = LocalDateTime.of(2025, 3, 14, 9, 30);
+
+		String cursor = KeysetCursor.encode(0, startTime, 42L);
+		String[] parts = KeysetCursor.decode(cursor, 3);
+
+		assertThat(parts).containsExactly("0", startTime.toString(), "42");
+		assertThat(LocalDateTime.parse(parts[1])).isEqualTo(startTime);
+	}
+
+	@Test
+	void encodesNullAsEmptyPart() {
+		String[] parts = KeysetCursor.decode(KeysetCursor.encode(null, "2025-01-01T00:00", 7L), 3);
+
+		assertThat(parts).containsExactly("", "2025-01-01T00:00", "7");
+	}
+
+	@Test
+	void cursorIsUrlSafe() {
+		String cursor = KeysetCursor.encode(1.0 / 3, Long.MAX_VALUE);
+
+		assertThat(cursor).doesNotContain("+", "/", "=");
+	}
+
+	@Test
+	void rejectsWrongNumberOfParts() {
+		String cursor = KeysetCursor.encode("2025-01-01T00:00", 7L);
+
+		assertThatThrownBy(() -> KeysetCursor.decode(cursor, 3))
+				.isInstanceOf(ValidationException.class)
+				.hasMessage("Invalid cursor");
+	}
+
+	@Test
+	void rejectsMalformedCursor() {
+		assertThatThrownBy(() -> KeysetCursor.decode("not a cursor!", 2))
+				.isInstanceOf(ValidationException.class);
+	}
+}
@@ -0,0 +1,66 @@
+package com.appdev.academeet.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ReplayBufferTest {
+
+	private final ReplayBuffer<String> buffer = new ReplayBuffer<>(3);
+
+	@Test
+	void numbersEventsFromOne() {
+		assertThat(buffer.nextSeq()).isEqualTo(1);
+		assertThat(buffer.append("a")).isEqualTo(1);
+		assertThat(buffer.append("b")).isEqualTo(2);
+		assertThat(buffer.lastSeq()).isEqualTo(2);
+		assertThat(buffer.nextSeq()).isEqualTo(3);
+	}
+
+	@Test
+	void replaysEventsAfterTheLastSeenSeq() {
+		buffer.append("a");
+		buffer.append("b");
+		buffer.append("c");
+
+		assertThat(buffer.since(1)).containsExactly("b", "c");
+		assertThat(buffer.since(0)).containsExactly("a", "b", "c");
+	}
+
+	@Test
+	void returnsNothingWhenTheReaderIsUpToDate() {
+		buffer.append("a");
+
+		assertThat(buffer.since(1)).isEmpty();
+	}
+
+	@Test
+	void asksForResyncOnceTheGapWasEvicted() {
+		for (String event : new String[] {"a", "b", "c", "d", "e"}) {
+			buffer.append(event);
+		}
+
+		assertThat(buffer.since(1)).isNull();
+		assertThat(buffer.since(0)).isNull();
+		assertThat(buffer.since(2)).containsExactly("c", "d", "e");
+		assertThat(buffer.since(4)).containsExactly("e");
+	}
+
+	@Test
+	void asksForResyncForASeqItNeverIssued() {
+		buffer.append("a");
+
+		assertThat(buffer.since(2)).isNull();
+	}
+
+	@Test
+	void searchesOnlyBufferedEvents() {
+		buffer.append("deleted-7");
+		buffer.append("b");
+		buffer.append("c");
+		buffer.append("d");
+
+		assertThat(buffer.contains("c"::equals)).isTrue();
+		assertThat(buffer.contains("deleted-7"::equals)).isFalse();
+	}
+}
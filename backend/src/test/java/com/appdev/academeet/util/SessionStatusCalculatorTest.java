@@ -0,0 +1,49 @@
+package com.appdev.academeet.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.appdev.academeet.model.Session;
+import com.appdev.academeet.model.SessionStatus;
+
+class SessionStatusCalculatorTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2025, 3, 14, 9, 0);
+
+	@Test
+	void followsStartAndEndTimes() {
+		Session session = session(START, START.plusHours(2));
+
+		assertThat(SessionStatusCalculator.calculateStatus(session, START.minusMinutes(1))).isEqualTo(SessionStatus.SCHEDULED);
+		assertThat(SessionStatusCalculator.calculateStatus(session, START.plusHours(1))).isEqualTo(SessionStatus.ACTIVE);
+		assertThat(SessionStatusCalculator.calculateStatus(session, START.plusHours(2))).isEqualTo(SessionStatus.COMPLETED);
+	}
+
+	@Test
+	void endsOpenEndedSessionsAfterDefaultDuration() {
+		Session session = session(START, null);
+		LocalDateTime defaultEnd = START.plus(SessionStatusCalculator.DEFAULT_DURATION);
+
+		assertThat(SessionStatusCalculator.calculateStatus(session, START)).isEqualTo(SessionStatus.ACTIVE);
+		assertThat(SessionStatusCalculator.calculateStatus(session, defaultEnd.minusSeconds(1))).isEqualTo(SessionStatus.ACTIVE);
+		assertThat(SessionStatusCalculator.calculateStatus(session, defaultEnd)).isEqualTo(SessionStatus.COMPLETED);
+	}
+
+	@Test
+	void keepsTrashedAndDeletedStatuses() {
+		Session session = session(START, START.plusHours(2));
+		session.setSessionStatus(SessionStatus.TRASH);
+
+		assertThat(SessionStatusCalculator.calculateStatus(session, START.plusHours(3))).isEqualTo(SessionStatus.TRASH);
+	}
+
+	private static Session session(LocalDateTime start, LocalDateTime end) {
+		Session session = new Session();
+		session.setStartTime(start);
+		session.setEndTime(end);
+		return session;
+	}
+}
@@ -112,7 +112,8 @@ const DashboardLayout = ({ children }) => {
 
   const handleMarkAllAsRead = async () => {
     try {
-      await notificationService.markAllAsRead();
+      const newestId = notifications.reduce((max, n) => Math.max(max, n.id), 0);
+      await notificationService.markAllAsRead(newestId > 0 ? newestId : null);
       setNotifications(notifications.map(n => ({ ...n, read: true })));
       setUnreadCount(0);
     } catch (err) {
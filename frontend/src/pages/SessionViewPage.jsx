@@ -140,6 +140,8 @@ const SessionViewPage = () => {
   const [sessionTitle, setSessionTitle] = useState('');
   const [validatedPassword, setValidatedPassword] = useState(null);
   const [isParticipant, setIsParticipant] = useState(false);
+  // 1-based place in the waitlist, 0 when not waitlisted
+  const [waitlistPosition, setWaitlistPosition] = useState(0);
   const [showParticipantsModal, setShowParticipantsModal] = useState(false);
   const [participants, setParticipants] = useState([]);
 
@@ -220,6 +222,12 @@ const SessionViewPage = () => {
     try {
       const result = await sessionService.isUserParticipant(sessionId);
       setIsParticipant(result.isParticipant);
+      if (result.isParticipant) {
+        setWaitlistPosition(0);
+      } else {
+        const waitlist = await sessionService.getWaitlistStatus(sessionId);
+        setWaitlistPosition(waitlist.position || 0);
+      }
     } catch (err) {
       console.error('Error checking participation status:', err);
     }
@@ -271,8 +279,10 @@ const SessionViewPage = () => {
         // Session is scheduled, user can cancel participation
         await cancelJoinSession();
       }
+    } else if (waitlistPosition > 0) {
+      await leaveWaitlist();
     } else {
-      // User is not a participant, join the session
+      // User is not a participant, join the session (or its waitlist when full)
       const passwordToUse = session.sessionPrivacy === 'PRIVATE' ? validatedPassword : null;
       await joinSession(passwordToUse);
     }
@@ -324,16 +334,20 @@ const SessionViewPage = () => {
   const joinSession = async (password = null) => {
     try {
       setIsJoining(true);
-      
-      if (isSessionFull()) {
-        alert('This session is full. Cannot join at this time.');
+
+      const result = await sessionService.joinSession(sessionId, password);
+
+      if (result.status === 'WAITLISTED') {
+        // Full session: the server queued us and will promote us when a seat frees up
+        const waitlist = await sessionService.getWaitlistStatus(sessionId);
+        setWaitlistPosition(waitlist.position || 1);
+        alert(`"${session.title}" is full. You're #${waitlist.position || 1} on the waitlist and will be added when a seat opens.`);
         return;
       }
-
-      await sessionService.joinSession(sessionId, password);
       
       // Update participation status
       setIsParticipant(true);
+      setWaitlistPosition(0);
       
       // Show success message
       alert(`You have successfully joined "${session.title}"`);
@@ -349,6 +363,24 @@ const SessionViewPage = () => {
     }
   };
 
+  const leaveWaitlist = async () => {
+    if (!window.confirm('Are you sure you want to leave the waitlist for this session?')) {
+      return;
+    }
+
+    try {
+      setIsJoining(true);
+      await sessionService.leaveWaitlist(sessionId);
+      setWaitlistPosition(0);
+      alert(`You have left the waitlist for "${session.title}"`);
+    } catch (error) {
+      console.error('Error leaving waitlist:', error);
+      alert(`Failed to leave waitlist: ${error.message}`);
+    } finally {
+      setIsJoining(false);
+    }
+  };
+
   const cancelJoinSession = async () => {
     if (!window.confirm('Are you sure you want to cancel your participation in this session?')) {
       return;
@@ -568,12 +600,14 @@ const SessionViewPage = () => {
                         </svg>
                       )}
                       {isJoining 
-                        ? (isParticipant 
-                            ? (session.status === 'ACTIVE' ? 'Leaving...' : 'Canceling...') 
+                        ? (isParticipant || waitlistPosition > 0
+                            ? (session.status === 'ACTIVE' && isParticipant ? 'Leaving...' : 'Canceling...') 
                             : 'Joining...') 
                         : (isParticipant 
                             ? (session.status === 'ACTIVE' ? 'Leave Session' : 'Cancel Join') 
-                            : 'Join Session')
+                            : waitlistPosition > 0
+                              ? `Leave Waitlist (#${waitlistPosition})`
+                              : (isSessionFull() ? 'Join Waitlist' : 'Join Session'))
                       }
                     </>
                   )}
@@ -53,6 +53,16 @@ export const sessionService = {
     return response.data;
   },
 
+  async getWaitlistStatus(sessionId) {
+    const response = await api.get(`${API_BASE}/${sessionId}/waitlist`);
+    return response.data;
+  },
+
+  async leaveWaitlist(sessionId) {
+    const response = await api.delete(`${API_BASE}/${sessionId}/waitlist`);
+    return response.data;
+  },
+
   async isUserParticipant(sessionId) {
     const response = await api.get(`${API_BASE}/${sessionId}/is-participant`);
     return response.data;
@@ -27,8 +27,10 @@ export const notificationService = {
     return response.data;
   },
 
-  async markAllAsRead() {
-    const response = await api.post("/notifications/mark-all-read", {});
+  // upToId: newest notification id on screen, so anything arriving meanwhile stays unread
+  async markAllAsRead(upToId) {
+    const params = upToId != null ? { upTo: upToId } : {};
+    const response = await api.post("/notifications/mark-all-read", {}, { params });
     return response.data;
   },
 